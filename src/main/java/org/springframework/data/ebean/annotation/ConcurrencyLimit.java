@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Limits the number of concurrently executing queries of the annotated query method, or of all query methods of the
+ * annotated repository interface. Calls exceeding the limit wait for a permit up to the queue timeout and are then
+ * rejected with a {@link org.springframework.dao.TransientDataAccessResourceException}. A query returning a
+ * {@link java.util.stream.Stream} holds its permit until the stream is closed.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface ConcurrencyLimit {
+
+    /**
+     * The maximum number of concurrently executing queries, must be greater than zero.
+     */
+    int value();
+
+    /**
+     * The maximum time in milliseconds a call waits for a permit before being rejected. Defaults to {@literal 0},
+     * rejecting calls exceeding the limit immediately.
+     */
+    long queueTimeout() default 0;
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.annotation;
+
+import io.ebean.PersistenceContextScope;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the {@link PersistenceContextScope} of the query of the annotated query method, or of the queries of all query
+ * methods of the annotated repository interface. {@link PersistenceContextScope#QUERY} loads the entities into a
+ * persistence context of their own instead of the one of the surrounding transaction, so that large reads in a long
+ * transaction do not keep every loaded entity reachable until it ends.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface PersistenceContextScoped {
+
+    /**
+     * The persistence context scope of the queries.
+     */
+    PersistenceContextScope value();
+}
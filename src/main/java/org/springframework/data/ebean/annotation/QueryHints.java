@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * JDBC hints applied to the query of the annotated query method. Hints left unset fall back to the defaults of the
+ * repository configured through {@link org.springframework.data.ebean.repository.config.EnableEbeanRepositories}.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface QueryHints {
+
+    /**
+     * The query timeout in seconds, after which the statement is cancelled by the driver. {@literal 0} disables the
+     * timeout, the default {@literal -1} uses the query timeout of the repository.
+     */
+    int timeout() default -1;
+
+    /**
+     * The number of rows the driver fetches per round trip when reading the results. Larger values reduce the round
+     * trips of large lists, some drivers (e.g. PostgreSQL) only stream the results of iterated queries when it is set.
+     * {@literal 0} uses the driver default, the default {@literal -1} uses the fetch size of the repository.
+     */
+    int fetchSize() default -1;
+
+    /**
+     * Whether the entities returned by the query are read-only. Read-only entities throw on modification and skip
+     * the change tracking of dirty properties, so they may be shared between threads and cached.
+     */
+    boolean readOnly() default false;
+}
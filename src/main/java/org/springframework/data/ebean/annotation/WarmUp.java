@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Preloads the second level caches on startup, once all singletons have been instantiated and before the application
+ * context is refreshed. On a repository interface, all rows of its entity type are loaded into the bean cache, which
+ * suits small reference tables. On a query method without parameters, the method is executed and the entities it
+ * returns are put into the bean cache. Either way the entity type must be annotated with
+ * {@link io.ebean.annotation.Cache}.
+ * <p>
+ * The warm-up queries of all repositories run in parallel and are abandoned when the deadline configured by
+ * {@link org.springframework.data.ebean.repository.config.EnableEbeanRepositories#warmUpTimeout()} passes, a failed
+ * or abandoned warm-up only leaving the caches cold.
+ *
+ * @author Xuegui Yuan
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Documented
+public @interface WarmUp {
+}
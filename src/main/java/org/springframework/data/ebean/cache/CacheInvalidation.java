@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.cache;
+
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Invalidation of the cached entities of one entity type, sent to the peer nodes after a repository write. It either
+ * names the ids of the written entities or invalidates all entities of the type. Either way the query cache of the
+ * type is cleared.
+ *
+ * @author Xuegui Yuan
+ */
+public final class CacheInvalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String entityType;
+    private final List<Object> ids;
+    private final boolean all;
+
+    private CacheInvalidation(String entityType, List<Object> ids, boolean all) {
+        this.entityType = entityType;
+        this.ids = ids;
+        this.all = all;
+    }
+
+    /**
+     * Creates a {@link CacheInvalidation} of the entities of the given type with the given ids.
+     *
+     * @param entityType must not be {@literal null}.
+     * @param ids        must not be {@literal null}, may be empty to only invalidate the query cache.
+     * @return
+     */
+    public static CacheInvalidation of(Class<?> entityType, Collection<?> ids) {
+        Assert.notNull(entityType, "Entity type must not be null!");
+        Assert.notNull(ids, "Ids must not be null!");
+        return new CacheInvalidation(entityType.getName(), Collections.unmodifiableList(new ArrayList<>(ids)), false);
+    }
+
+    /**
+     * Creates a {@link CacheInvalidation} of all entities of the given type.
+     *
+     * @param entityType must not be {@literal null}.
+     * @return
+     */
+    public static CacheInvalidation all(Class<?> entityType) {
+        Assert.notNull(entityType, "Entity type must not be null!");
+        return new CacheInvalidation(entityType.getName(), Collections.emptyList(), true);
+    }
+
+    /**
+     * Returns the fully qualified name of the entity type.
+     *
+     * @return
+     */
+    public String getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Returns the ids of the invalidated entities, empty if all entities are invalidated.
+     *
+     * @return
+     */
+    public List<Object> getIds() {
+        return ids;
+    }
+
+    /**
+     * Returns whether all entities of the type are invalidated.
+     *
+     * @return
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheInvalidation[%s %s]", entityType, all ? "all" : ids);
+    }
+}
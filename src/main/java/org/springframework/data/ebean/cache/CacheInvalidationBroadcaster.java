@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.cache;
+
+import io.ebean.EbeanServer;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts the cache invalidations of the repository writes of this node to the peer nodes through a
+ * {@link CacheInvalidationTransport}, and applies the invalidations received from the peers to the bean, natural key
+ * and query caches of the local {@link EbeanServer}.
+ * <p>
+ * Invalidations of a write inside a transaction are collected and sent once the transaction committed, merged per
+ * entity type and split into batches of at most {@code batchSize} ids. Invalidations outside of a transaction are
+ * sent right away.
+ * <p>
+ * The broadcaster stays subscribed to its transport until it is destroyed.
+ *
+ * @author Xuegui Yuan
+ */
+public class CacheInvalidationBroadcaster implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationBroadcaster.class);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final EbeanServer ebeanServer;
+    private final CacheInvalidationTransport transport;
+    private final Map<String, BeanDescriptor<?>> descriptors = new HashMap<>();
+    private final Consumer<List<CacheInvalidation>> receiver = this::apply;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Creates a new {@link CacheInvalidationBroadcaster} and subscribes it to the given transport.
+     *
+     * @param ebeanServer must not be {@literal null}.
+     * @param transport   must not be {@literal null}.
+     */
+    public CacheInvalidationBroadcaster(EbeanServer ebeanServer, CacheInvalidationTransport transport) {
+        Assert.notNull(ebeanServer, "EbeanServer must not be null!");
+        Assert.notNull(transport, "CacheInvalidationTransport must not be null!");
+        this.ebeanServer = ebeanServer;
+        this.transport = transport;
+        for (BeanDescriptor<?> descriptor : ((SpiEbeanServer) ebeanServer).getBeanDescriptors()) {
+            descriptors.put(descriptor.getBeanType().getName(), descriptor);
+        }
+        transport.subscribe(receiver);
+    }
+
+    /**
+     * Unsubscribes the broadcaster from its transport, it no longer applies the invalidations received from the peers.
+     */
+    @Override
+    public void destroy() {
+        transport.unsubscribe(receiver);
+    }
+
+    /**
+     * Set the maximum number of ids sent in one batch.
+     *
+     * @param batchSize the batch size, must be greater than zero.
+     */
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Broadcasts the invalidation of the entities of the given type with the given ids.
+     *
+     * @param entityType must not be {@literal null}.
+     * @param ids        must not be {@literal null}, may be empty to only invalidate the query cache.
+     */
+    public void invalidate(Class<?> entityType, Collection<?> ids) {
+        Assert.notNull(entityType, "Entity type must not be null!");
+        Assert.notNull(ids, "Ids must not be null!");
+        pendingInvalidations().add(entityType, ids);
+    }
+
+    /**
+     * Broadcasts the invalidation of all entities of the given type.
+     *
+     * @param entityType must not be {@literal null}.
+     */
+    public void invalidateAll(Class<?> entityType) {
+        Assert.notNull(entityType, "Entity type must not be null!");
+        pendingInvalidations().addAll(entityType);
+    }
+
+    /**
+     * Applies the given invalidations received from a peer to the local caches. Entity types unknown to the local
+     * {@link EbeanServer} are ignored.
+     *
+     * @param invalidations must not be {@literal null}.
+     */
+    public void apply(List<CacheInvalidation> invalidations) {
+        for (CacheInvalidation invalidation : invalidations) {
+            BeanDescriptor<?> descriptor = descriptors.get(invalidation.getEntityType());
+            if (descriptor == null) {
+                continue;
+            }
+            if (invalidation.isAll()) {
+                ebeanServer.getServerCacheManager().clearLocal(descriptor.getBeanType());
+                continue;
+            }
+            if (descriptor.isBeanCaching() && !invalidation.getIds().isEmpty()) {
+                descriptor.cacheApplyInvalidate(invalidation.getIds());
+                if (descriptor.isNaturalKeyCaching()) {
+                    ebeanServer.getServerCacheManager().getNaturalKeyCache(descriptor.getBeanType()).clear();
+                }
+            }
+            descriptor.clearQueryCache();
+        }
+    }
+
+    private PendingInvalidations pendingInvalidations() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new PendingInvalidations(false);
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations(true);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void send(List<CacheInvalidation> batch) {
+        try {
+            transport.send(batch);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to send cache invalidations {}, peers may serve stale entities until they expire!",
+                    batch, e);
+        }
+    }
+
+    /**
+     * The invalidations of one transaction, merged per entity type and sent after commit, or of one write outside
+     * of a transaction, sent right away.
+     */
+    private final class PendingInvalidations extends TransactionSynchronizationAdapter {
+
+        private final boolean deferred;
+        private final Map<Class<?>, Set<Object>> ids = new LinkedHashMap<>();
+        private final Set<Class<?>> all = new LinkedHashSet<>();
+
+        PendingInvalidations(boolean deferred) {
+            this.deferred = deferred;
+        }
+
+        void add(Class<?> entityType, Collection<?> entityIds) {
+            if (!all.contains(entityType)) {
+                ids.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).addAll(entityIds);
+            }
+            if (!deferred) {
+                sendPending();
+            }
+        }
+
+        void addAll(Class<?> entityType) {
+            all.add(entityType);
+            ids.remove(entityType);
+            if (!deferred) {
+                sendPending();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            sendPending();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBroadcaster.this);
+        }
+
+        private void sendPending() {
+            List<CacheInvalidation> batch = new ArrayList<>();
+            int batchIds = 0;
+            for (Class<?> entityType : all) {
+                batch.add(CacheInvalidation.all(entityType));
+                batchIds++;
+            }
+            for (Map.Entry<Class<?>, Set<Object>> entry : ids.entrySet()) {
+                List<Object> entityIds = new ArrayList<>(entry.getValue());
+                int from = 0;
+                do {
+                    List<Object> chunk = entityIds.subList(from, Math.min(from + batchSize, entityIds.size()));
+                    if (!batch.isEmpty() && batchIds + chunk.size() > batchSize) {
+                        send(batch);
+                        batch = new ArrayList<>();
+                        batchIds = 0;
+                    }
+                    batch.add(CacheInvalidation.of(entry.getKey(), chunk));
+                    batchIds += Math.max(chunk.size(), 1);
+                    from += chunk.size();
+                } while (from < entityIds.size());
+            }
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+            ids.clear();
+            all.clear();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * SPI sending batches of {@link CacheInvalidation}s to the peer nodes of a cluster and receiving theirs, e.g. over a
+ * message broker or a multicast group. Implementations may deliver the batches a node sends back to the node itself.
+ *
+ * @author Xuegui Yuan
+ * @see LoopbackCacheInvalidationTransport
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Sends the given batch of invalidations to the peer nodes.
+     *
+     * @param invalidations must not be {@literal null}.
+     */
+    void send(List<CacheInvalidation> invalidations);
+
+    /**
+     * Registers the given receiver of the batches sent by the peer nodes.
+     *
+     * @param receiver must not be {@literal null}.
+     */
+    void subscribe(Consumer<List<CacheInvalidation>> receiver);
+
+    /**
+     * Removes the given receiver registered through {@link #subscribe(Consumer)}, doing nothing if it is not
+     * registered.
+     *
+     * @param receiver must not be {@literal null}.
+     */
+    void unsubscribe(Consumer<List<CacheInvalidation>> receiver);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.cache;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM {@link CacheInvalidationTransport} delivering each batch synchronously to all its receivers, including the
+ * sending node. Sharing one instance between several {@link CacheInvalidationBroadcaster}s simulates a cluster in
+ * tests.
+ *
+ * @author Xuegui Yuan
+ */
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<List<CacheInvalidation>>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(List<CacheInvalidation> invalidations) {
+        Assert.notNull(invalidations, "Invalidations must not be null!");
+        for (Consumer<List<CacheInvalidation>> receiver : receivers) {
+            receiver.accept(invalidations);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> receiver) {
+        Assert.notNull(receiver, "Receiver must not be null!");
+        receivers.add(receiver);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<List<CacheInvalidation>> receiver) {
+        Assert.notNull(receiver, "Receiver must not be null!");
+        receivers.remove(receiver);
+    }
+}
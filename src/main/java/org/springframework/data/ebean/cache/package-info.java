@@ -0,0 +1,5 @@
+/**
+ * Cache invalidation between the nodes of a cluster sharing one database.
+ */
+
+package org.springframework.data.ebean.cache;
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.domain;
+
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Envelope of the domain events registered by a chunk of aggregates that were persisted together by a bulk
+ * repository operation such as {@code saveAll} or {@code updateAll}.
+ *
+ * @author Xuegui Yuan
+ */
+public class DomainEventBatch extends DomainEvent {
+
+    private final Class<?> aggregateType;
+    private final int aggregateCount;
+    private final List<DomainEvent> events;
+
+    /**
+     * Creates a new {@link DomainEventBatch}.
+     *
+     * @param aggregateType  the aggregate type, must not be {@literal null}.
+     * @param aggregateCount the number of aggregates in the chunk.
+     * @param events         the events registered by the aggregates in the chunk, must not be {@literal null}.
+     */
+    public DomainEventBatch(Class<?> aggregateType, int aggregateCount, List<DomainEvent> events) {
+        super(aggregateType);
+        Assert.notNull(events, "Domain events must not be null!");
+        this.aggregateType = aggregateType;
+        this.aggregateCount = aggregateCount;
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Return the aggregate type.
+     *
+     * @return the aggregate type
+     */
+    public Class<?> getAggregateType() {
+        return aggregateType;
+    }
+
+    /**
+     * Return the number of aggregates in the chunk.
+     *
+     * @return the number of aggregates in the chunk
+     */
+    public int getAggregateCount() {
+        return aggregateCount;
+    }
+
+    /**
+     * Return the events registered by the aggregates in the chunk, in registration order.
+     *
+     * @return the events
+     */
+    public List<DomainEvent> getEvents() {
+        return events;
+    }
+
+}
@@ -37,6 +37,19 @@ public interface QueryChannelService {
 
     <T> DtoQuery<T> createNamedDtoQuery(Class<T> dtoType, String namedQuery);
 
+    /**
+     * Return a view of this service whose entity queries return read-only beans. Read-only beans throw on
+     * modification and skip the change tracking of dirty properties, so they may be shared between threads and
+     * cached.
+     * <p>
+     * The default implementation returns a view delegating to this service and marking its entity queries read-only.
+     *
+     * @return the read-only view.
+     */
+    default QueryChannelService readOnly() {
+        return new ReadOnlyQueryChannelService(this);
+    }
+
     ExampleExpression exampleOf(Object example);
 
     ExampleExpression exampleOf(Object example,
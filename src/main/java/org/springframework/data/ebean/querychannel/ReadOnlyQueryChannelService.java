@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.querychannel;
+
+import io.ebean.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * Read-only view of a {@link QueryChannelService}, marking the entity queries created by the delegate read-only.
+ *
+ * @author Xuegui Yuan
+ * @see QueryChannelService#readOnly()
+ */
+class ReadOnlyQueryChannelService implements QueryChannelService {
+
+    private final QueryChannelService delegate;
+
+    /**
+     * Creates a new {@link ReadOnlyQueryChannelService}.
+     *
+     * @param delegate must not be {@literal null}.
+     */
+    ReadOnlyQueryChannelService(QueryChannelService delegate) {
+        Assert.notNull(delegate, "QueryChannelService must not be null!");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> Query<T> createQuery(Class<T> entityType, Object queryObject) {
+        return delegate.createQuery(entityType, queryObject).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createQuery(Class<T> entityType, Object queryObject, Pageable pageable) {
+        return delegate.createQuery(entityType, queryObject, pageable).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createQuery(Class<T> entityType) {
+        return delegate.createQuery(entityType).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createQuery(Class<T> entityType, String eql) {
+        return delegate.createQuery(entityType, eql).setReadOnly(true);
+    }
+
+    @Override
+    public SqlQuery createSqlQuery(String sql) {
+        return delegate.createSqlQuery(sql);
+    }
+
+    @Override
+    public <T> Query<T> createSqlQuery(Class<T> entityType, String sql) {
+        return delegate.createSqlQuery(entityType, sql).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createSqlQueryMappingColumns(Class<T> entityType,
+                                                     String sql,
+                                                     Map<String, String> columnMapping) {
+        return delegate.createSqlQueryMappingColumns(entityType, sql, columnMapping).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createSqlQueryMappingTableAlias(Class<T> entityType,
+                                                        String sql,
+                                                        Map<String, String> tableAliasMapping) {
+        return delegate.createSqlQueryMappingTableAlias(entityType, sql, tableAliasMapping).setReadOnly(true);
+    }
+
+    @Override
+    public <T> Query<T> createNamedQuery(Class<T> entityType, String queryName) {
+        return delegate.createNamedQuery(entityType, queryName).setReadOnly(true);
+    }
+
+    @Override
+    public <T> DtoQuery<T> createDtoQuery(Class<T> dtoType, String sql) {
+        return delegate.createDtoQuery(dtoType, sql);
+    }
+
+    @Override
+    public <T> DtoQuery<T> createNamedDtoQuery(Class<T> dtoType, String namedQuery) {
+        return delegate.createNamedDtoQuery(dtoType, namedQuery);
+    }
+
+    @Override
+    public QueryChannelService readOnly() {
+        return this;
+    }
+
+    @Override
+    public ExampleExpression exampleOf(Object example) {
+        return delegate.exampleOf(example);
+    }
+
+    @Override
+    public ExampleExpression exampleOf(Object example,
+                                       boolean caseInsensitive,
+                                       LikeType likeType) {
+        return delegate.exampleOf(example, caseInsensitive, likeType);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository;
+
+/**
+ * Callback notified after each committed chunk of a chunked delete of all entities.
+ *
+ * @param <ID> the type of the entity's identifier
+ * @author Xuegui Yuan
+ * @see EbeanRepository#deleteAllInChunks(Object, DeleteProgressListener)
+ */
+@FunctionalInterface
+public interface DeleteProgressListener<ID> {
+
+    /**
+     * Called after a chunk has been deleted and committed. The given id is the upper bound of the deleted id range, an
+     * interrupted delete is resumed by passing it as the {@code startAfter} id.
+     *
+     * @param lastId  the greatest id of the deleted chunk
+     * @param deleted the number of rows deleted so far
+     */
+    void chunkDeleted(ID lastId, long deleted);
+}
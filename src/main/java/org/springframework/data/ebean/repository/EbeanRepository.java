@@ -22,12 +22,14 @@ import io.ebean.UpdateQuery;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -85,6 +87,93 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
      */
     Iterable<T> updateAll(Iterable<T> entities);
 
+    /**
+     * Update the given properties of the entity with the given id with one UPDATE statement, without loading the
+     * entity first. Properties mapped to {@literal null} are set to null.
+     *
+     * @param id      must not be {@literal null}.
+     * @param changes property names and their new values, must not be {@literal null} or empty.
+     * @return the number of rows updated, {@literal 0} if no entity with the given id exists.
+     */
+    int updateById(ID id, Map<String, ?> changes);
+
+    /**
+     * Update the given properties of the entity with the given id with one UPDATE statement, without loading the
+     * entity first, only if its {@link javax.persistence.Version} property still holds the expected value. The
+     * version is incremented by the same statement.
+     *
+     * @param id              must not be {@literal null}.
+     * @param expectedVersion the version the entity was read with, must not be {@literal null}.
+     * @param changes         property names and their new values, must not be {@literal null} or empty.
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the entity does not exist or its version
+     *                                                                  has changed.
+     * @throws IllegalStateException if the entity has no numeric version property.
+     */
+    void updateById(ID id, Number expectedVersion, Map<String, ?> changes);
+
+    /**
+     * Update the given properties of all entities with the given ids, issuing one UPDATE statement per chunk of ids
+     * without loading the entities first.
+     *
+     * @param ids     must not be {@literal null}.
+     * @param changes property names and their new values, must not be {@literal null} or empty.
+     * @return the number of rows updated.
+     */
+    int updateAllById(Iterable<ID> ids, Map<String, ?> changes);
+
+    /**
+     * Insert the given entity or update the row with the same id with one platform specific statement (MERGE or
+     * INSERT ... ON CONFLICT), without checking its existence first. The id of the entity must be set. Values only
+     * generated on insert, such as {@code @WhenCreated}, are not set on the entity, as the stored ones are kept when
+     * the row already exists; the version is read back afterwards. The entity is then marked as loaded, so that saving
+     * it updates the row.
+     *
+     * @param entity must not be {@literal null}.
+     * @param <S>    entity extends T
+     * @return the entity
+     * @throws UnsupportedOperationException if the database platform does not support upserts.
+     */
+    <S extends T> S upsert(S entity);
+
+    /**
+     * Insert the given entities or update the rows with the same ids, executing the upsert statement in JDBC batches.
+     *
+     * @param entities must not be {@literal null}.
+     * @param <S>      entity extends T
+     * @return the entities
+     * @throws UnsupportedOperationException if the database platform does not support upserts.
+     * @see #upsert(Object)
+     */
+    <S extends T> Iterable<S> upsertAll(Iterable<S> entities);
+
+    /**
+     * Insert the given entities through JDBC batches of one statement. Unlike {@link #saveAll(Iterable)}, this
+     * bypasses the per bean persist pipeline of Ebean: associated entities are not cascaded, persist controllers and
+     * listeners are not called and the entities do not join the persistence context. Generated properties such as
+     * {@code @WhenCreated} and {@code @WhoCreated} are evaluated once for all the entities, and the entities are
+     * marked as loaded so that saving them afterwards updates their row.
+     * <p>
+     * Entities without an id of a type with sequence or UUID ids get their ids drawn up front. Ids generated by an
+     * identity column are not fetched back: those entities keep a {@literal null} id and all cached entities of the
+     * type are invalidated.
+     *
+     * @param entities must not be {@literal null}.
+     * @return the number of inserted entities
+     * @see #insertBulk(Iterable, boolean)
+     */
+    long insertBulk(Iterable<? extends T> entities);
+
+    /**
+     * Insert the given entities like {@link #insertBulk(Iterable)}, optionally fetching the ids generated by an
+     * identity column. The entities without an id are then inserted one statement at a time, as JDBC batches do not
+     * reliably return the generated keys, still bypassing the persist pipeline.
+     *
+     * @param entities          must not be {@literal null}.
+     * @param fetchGeneratedIds whether to fetch the ids generated by an identity column for the entities without an id.
+     * @return the number of inserted entities
+     */
+    long insertBulk(Iterable<? extends T> entities, boolean fetchGeneratedIds);
+
     /**
      * Deletes the entity permanent with the given id.
      *
@@ -114,6 +203,52 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
      */
     void deletePermanentAll();
 
+    /**
+     * Deletes the entities with the given ids without loading them, soft deleting entities supporting soft delete.
+     * The ids are deleted by chunks, each one with its own {@code DELETE ... WHERE id IN (...)} statement committed
+     * on its own, outside of any surrounding transaction.
+     * <p>
+     * A transaction of the caller is suspended for the duration of the call: rolling it back afterwards does not
+     * undo the deletes, and the chunks do not see its uncommitted changes.
+     *
+     * @param ids must not be {@literal null}.
+     * @return the number of deleted rows
+     * @throws IllegalArgumentException in case the given {@link Iterable} is {@literal null}.
+     */
+    int deleteAllById(Iterable<ID> ids);
+
+    /**
+     * Deletes the entities with the given ids permanent without loading them, by chunks committed on their own
+     * while suspending a transaction of the caller.
+     *
+     * @param ids must not be {@literal null}.
+     * @return the number of deleted rows
+     * @throws IllegalArgumentException in case the given {@link Iterable} is {@literal null}.
+     * @see #deleteAllById(Iterable)
+     */
+    int deletePermanentAllById(Iterable<ID> ids);
+
+    /**
+     * Deletes all entities by ranges of ids in ascending order, each range being deleted by its own statement
+     * committed on its own, outside of any surrounding transaction, soft deleting entities supporting soft delete.
+     * The ranges span the configured delete chunk size and are separated by the configured delete chunk pause.
+     *
+     * @param startAfter the id to resume an interrupted delete after, {@literal null} to start from the first entity.
+     * @param listener   notified after each committed chunk, may be {@literal null}.
+     * @return the number of deleted rows
+     */
+    long deleteAllInChunks(ID startAfter, DeleteProgressListener<ID> listener);
+
+    /**
+     * Deletes all entities permanent by ranges of ids in ascending order, each committed on its own.
+     *
+     * @param startAfter the id to resume an interrupted delete after, {@literal null} to start from the first entity.
+     * @param listener   notified after each committed chunk, may be {@literal null}.
+     * @return the number of deleted rows
+     * @see #deleteAllInChunks(Object, DeleteProgressListener)
+     */
+    long deletePermanentAllInChunks(ID startAfter, DeleteProgressListener<ID> listener);
+
     /**
      * Retrieves an entity by its id and select return entity properties with FetchPath string.
      *
@@ -125,6 +260,10 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
 
     /**
      * Retrieves an entity by its property name value.
+     * <p>
+     * Lookups by a natural key declared through {@code @Cache(naturalKey = ...)} on the entity type resolve the id
+     * through the natural key cache and the entity through the bean cache, only hitting the database on a miss. Both
+     * caches are invalidated by the writes of the repository, including its bulk updates, upserts and deletes.
      *
      * @param propertyName  property name
      * @param propertyValue property value
@@ -234,6 +373,48 @@ public interface EbeanRepository<T, ID> extends PagingAndSortingRepository<T, ID
      */
     Page<T> findAll(String fetchPath, Pageable pageable);
 
+    /**
+     * Returns a {@link Slice} of entities meeting the paging restriction provided in the {@code Pageable} object.
+     * Unlike {@link #findAll(Pageable)} no count query is issued, a single extra row is fetched to detect whether a
+     * next slice exists.
+     *
+     * @param pageable page request.
+     * @return a slice of entities.
+     */
+    Slice<T> findSlice(Pageable pageable);
+
+    /**
+     * Returns a {@link Slice} of entities meeting the paging restriction provided in the {@code Pageable} object
+     * and select return entity properties with FetchPath string, without issuing a count query.
+     *
+     * @param fetchPath FetchPath string.
+     * @param pageable  page request.
+     * @return a slice of entities select/fetch with FetchPath string.
+     */
+    Slice<T> findSlice(String fetchPath, Pageable pageable);
+
+    /**
+     * Returns a {@link Slice} of entities meeting the paging restriction provided in the {@code Pageable} object
+     * and matching the given {@link Example}, without issuing a count query.
+     *
+     * @param example  must not be {@literal null}.
+     * @param pageable page request.
+     * @return a slice of entities matching the given {@link Example}.
+     */
+    <S extends T> Slice<S> findSlice(Example<S> example, Pageable pageable);
+
+    /**
+     * Returns a {@link Slice} of at most {@code size} entities ordered by id whose id is greater than the given one.
+     * Keyset positioning keeps every slice as cheap as the first one and issues no count query, pass the id of the
+     * last entity of the previous slice to continue. The slice is not positioned by offset, so its
+     * {@link Slice#nextPageable()} is {@link Pageable#unpaged()} and can not be followed.
+     *
+     * @param id   id of the last entity of the previous slice, {@literal null} to start with the first entity.
+     * @param size maximum number of entities, must be greater than zero.
+     * @return a slice of entities ordered by id.
+     */
+    Slice<T> findSliceAfter(ID id, int size);
+
     /**
      * Returns a {@link Page} of entities meeting the paging restriction provided in the {@code Pageable} object.
      * and matching the given {@link Example} and select return entity properties with FetchPath string.
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+/**
+ * Ebean specific extension of {@link ReactiveSortingRepository}. Ebean reads through blocking JDBC, so every operation
+ * runs on a bounded Reactor scheduler sized to the connection pool instead of the subscribing thread, and multiple
+ * results are read row by row through {@link io.ebean.Query#findIterate()} as they are requested.
+ * <p>
+ * Derived and declared query methods returning a {@link reactor.core.publisher.Flux} or a
+ * {@link reactor.core.publisher.Mono} are supported the same way, cancelling the subscription cancels the query.
+ *
+ * @author Xuegui Yuan
+ * @see org.springframework.data.ebean.repository.config.EnableEbeanRepositories#reactiveThreadCap()
+ */
+@NoRepositoryBean
+public interface ReactiveEbeanRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+}
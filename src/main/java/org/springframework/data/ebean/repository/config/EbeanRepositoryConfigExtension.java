@@ -16,18 +16,36 @@
 
 package org.springframework.data.ebean.repository.config;
 
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.ebean.annotation.WarmUp;
 import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.repository.ReactiveEbeanRepository;
+import org.springframework.data.ebean.repository.support.CacheWarmer;
+import org.springframework.data.ebean.repository.support.DeferredQueryResolver;
 import org.springframework.data.ebean.repository.support.EbeanRepositoryFactoryBean;
+import org.springframework.data.ebean.repository.support.QueryResolution;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import javax.persistence.Entity;
 import javax.persistence.MappedSuperclass;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -40,8 +58,24 @@ import java.util.Locale;
  */
 public class EbeanRepositoryConfigExtension extends RepositoryConfigurationExtensionSupport {
 
+    private static final boolean PROJECT_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+            EbeanRepositoryConfigExtension.class.getClassLoader());
     private static final String DEFAULT_TRANSACTION_MANAGER_BEAN_NAME = "transactionManager";
     private static final String ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE = "enableDefaultTransactions";
+    private static final String QUERY_RESOLUTION_ATTRIBUTE = "queryResolution";
+    private static final String VALIDATE_QUERIES_ATTRIBUTE = "validateQueries";
+    private static final String QUERY_EXECUTOR_REF_ATTRIBUTE = "queryExecutorRef";
+    private static final String MAX_CONCURRENT_QUERIES_ATTRIBUTE = "maxConcurrentQueries";
+    private static final String QUERY_QUEUE_TIMEOUT_ATTRIBUTE = "queryQueueTimeout";
+    private static final String QUERY_TIMEOUT_ATTRIBUTE = "queryTimeout";
+    private static final String QUERY_FETCH_SIZE_ATTRIBUTE = "queryFetchSize";
+    private static final String CACHE_INVALIDATION_BROADCASTER_REF_ATTRIBUTE = "cacheInvalidationBroadcasterRef";
+    private static final String WARM_UP_TIMEOUT_ATTRIBUTE = "warmUpTimeout";
+    private static final String REACTIVE_THREAD_CAP_ATTRIBUTE = "reactiveThreadCap";
+    private static final String DEFERRED_QUERY_RESOLVER_BEAN_NAME = "ebeanDeferredQueryResolver";
+    private static final String CACHE_WARMER_BEAN_NAME = "ebeanCacheWarmer";
+    private static final String REACTIVE_SCHEDULER_BEAN_NAME = "ebeanReactiveScheduler";
+    private static final String REACTIVE_QUEUE_SIZE = "100000";
 
     /*
      * (non-Javadoc)
@@ -71,6 +105,116 @@ public class EbeanRepositoryConfigExtension extends RepositoryConfigurationExten
         return getModuleName().toLowerCase(Locale.US);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#registerBeansForRoot(org.springframework.beans.factory.support.BeanDefinitionRegistry, org.springframework.data.repository.config.RepositoryConfigurationSource)
+     */
+    @Override
+    public void registerBeansForRoot(BeanDefinitionRegistry registry, RepositoryConfigurationSource config) {
+        super.registerBeansForRoot(registry, config);
+
+        if (config instanceof AnnotationRepositoryConfigurationSource
+                && ((AnnotationRepositoryConfigurationSource) config).getAttributes()
+                .getEnum(QUERY_RESOLUTION_ATTRIBUTE) == QueryResolution.PARALLEL) {
+            registerIfNotAlreadyRegistered(
+                    BeanDefinitionBuilder.rootBeanDefinition(DeferredQueryResolver.class).getBeanDefinition(),
+                    registry, DEFERRED_QUERY_RESOLVER_BEAN_NAME, config.getSource());
+        }
+
+        List<Class<?>> repositoryInterfaces = getRepositoryInterfaces(registry, config);
+
+        if (repositoryInterfaces.stream().anyMatch(EbeanRepositoryConfigExtension::declaresWarmUp)) {
+            BeanDefinitionBuilder cacheWarmer = BeanDefinitionBuilder.rootBeanDefinition(CacheWarmer.class);
+            if (config instanceof AnnotationRepositoryConfigurationSource) {
+                cacheWarmer.addPropertyValue(WARM_UP_TIMEOUT_ATTRIBUTE,
+                        ((AnnotationRepositoryConfigurationSource) config).getAttributes()
+                                .getNumber(WARM_UP_TIMEOUT_ATTRIBUTE));
+            }
+            registerIfNotAlreadyRegistered(cacheWarmer.getBeanDefinition(), registry, CACHE_WARMER_BEAN_NAME,
+                    config.getSource());
+        }
+
+        if (PROJECT_REACTOR_PRESENT && repositoryInterfaces.stream().anyMatch(ReactiveWrappers::usesReactiveType)) {
+            Object threadCap = config instanceof AnnotationRepositoryConfigurationSource
+                    ? ((AnnotationRepositoryConfigurationSource) config).getAttributes()
+                    .getNumber(REACTIVE_THREAD_CAP_ATTRIBUTE) : 10;
+            registerIfNotAlreadyRegistered(BeanDefinitionBuilder
+                            .genericBeanDefinition("reactor.core.scheduler.Schedulers")
+                            .setFactoryMethod("newBoundedElastic")
+                            .addConstructorArgValue(threadCap)
+                            .addConstructorArgValue(REACTIVE_QUEUE_SIZE)
+                            .addConstructorArgValue("ebean-reactive")
+                            .setDestroyMethodName("dispose")
+                            .getBeanDefinition(),
+                    registry, REACTIVE_SCHEDULER_BEAN_NAME, config.getSource());
+        }
+    }
+
+    /**
+     * Returns the repository interfaces found by the given configuration, loaded with the bean class loader of the
+     * given registry.
+     */
+    private static List<Class<?>> getRepositoryInterfaces(BeanDefinitionRegistry registry,
+                                                          RepositoryConfigurationSource config) {
+        ClassLoader classLoader = registry instanceof ConfigurableBeanFactory
+                ? ((ConfigurableBeanFactory) registry).getBeanClassLoader() : ClassUtils.getDefaultClassLoader();
+        List<Class<?>> repositoryInterfaces = new ArrayList<>();
+        for (BeanDefinition candidate : config.getCandidates(new DefaultResourceLoader(classLoader))) {
+            try {
+                repositoryInterfaces.add(ClassUtils.forName(candidate.getBeanClassName(), classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // not loadable, it is not going to be a repository either
+            }
+        }
+        return repositoryInterfaces;
+    }
+
+    /**
+     * Returns whether the given repository interface or one of its query methods is annotated with {@link WarmUp}.
+     */
+    private static boolean declaresWarmUp(Class<?> repositoryInterface) {
+        return AnnotatedElementUtils.hasAnnotation(repositoryInterface, WarmUp.class)
+                || Arrays.stream(repositoryInterface.getMethods())
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, WarmUp.class));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans.factory.support.BeanDefinitionBuilder, org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource)
+     */
+    @Override
+    public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+        builder.addPropertyValue(QUERY_RESOLUTION_ATTRIBUTE, config.getAttributes().getEnum(QUERY_RESOLUTION_ATTRIBUTE));
+        builder.addPropertyValue(VALIDATE_QUERIES_ATTRIBUTE, config.getAttributes().getBoolean(VALIDATE_QUERIES_ATTRIBUTE));
+        builder.addPropertyValue(MAX_CONCURRENT_QUERIES_ATTRIBUTE,
+                config.getAttributes().getNumber(MAX_CONCURRENT_QUERIES_ATTRIBUTE));
+        builder.addPropertyValue(QUERY_QUEUE_TIMEOUT_ATTRIBUTE,
+                config.getAttributes().getNumber(QUERY_QUEUE_TIMEOUT_ATTRIBUTE));
+        builder.addPropertyValue(QUERY_TIMEOUT_ATTRIBUTE, config.getAttributes().getNumber(QUERY_TIMEOUT_ATTRIBUTE));
+        builder.addPropertyValue(QUERY_FETCH_SIZE_ATTRIBUTE,
+                config.getAttributes().getNumber(QUERY_FETCH_SIZE_ATTRIBUTE));
+        String queryExecutorRef = config.getAttributes().getString(QUERY_EXECUTOR_REF_ATTRIBUTE);
+        if (StringUtils.hasText(queryExecutorRef)) {
+            builder.addPropertyReference("queryExecutor", queryExecutorRef);
+        }
+        String broadcasterRef = config.getAttributes().getString(CACHE_INVALIDATION_BROADCASTER_REF_ATTRIBUTE);
+        if (StringUtils.hasText(broadcasterRef)) {
+            builder.addPropertyReference("cacheInvalidationBroadcaster", broadcasterRef);
+        }
+        if (PROJECT_REACTOR_PRESENT) {
+            builder.addPropertyValue("reactiveSchedulerBeanName", REACTIVE_SCHEDULER_BEAN_NAME);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#useRepositoryConfiguration(org.springframework.data.repository.core.RepositoryMetadata)
+     */
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return true;
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport#getIdentifyingAnnotations()
@@ -86,6 +230,6 @@ public class EbeanRepositoryConfigExtension extends RepositoryConfigurationExten
      */
     @Override
     protected Collection<Class<?>> getIdentifyingTypes() {
-        return Collections.<Class<?>>singleton(EbeanRepository.class);
+        return Arrays.asList(EbeanRepository.class, ReactiveEbeanRepository.class);
     }
 }
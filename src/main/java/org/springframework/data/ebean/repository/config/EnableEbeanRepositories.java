@@ -20,6 +20,8 @@ import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.ebean.repository.support.EbeanRepositoryFactoryBean;
+import org.springframework.data.ebean.repository.support.QueryResolution;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
@@ -128,4 +130,103 @@ public @interface EnableEbeanRepositories {
      * @return
      */
     String transactionManagerRef() default "transactionManager";
+
+    /**
+     * Configures when the repositories are initialized. Defaults to {@link BootstrapMode#DEFAULT}, i.e. eagerly with the
+     * application context.
+     *
+     * @return
+     */
+    BootstrapMode bootstrapMode() default BootstrapMode.DEFAULT;
+
+    /**
+     * Configures when the query methods of the repositories are resolved. Defaults to {@link QueryResolution#EAGER}.
+     *
+     * @return
+     */
+    QueryResolution queryResolution() default QueryResolution.EAGER;
+
+    /**
+     * Configures whether the declared queries ({@link org.springframework.data.ebean.annotation.Query} annotations and
+     * named queries) are parsed and validated against the {@link io.ebean.EbeanServer} when the query methods are
+     * resolved, failing on malformed queries and unknown properties. Combine with {@link QueryResolution#EAGER} or
+     * {@link QueryResolution#PARALLEL} to validate at startup. Defaults to {@literal false}.
+     *
+     * @return
+     */
+    boolean validateQueries() default false;
+
+    /**
+     * Configures the name of the {@link java.util.concurrent.Executor} bean running the query methods returning a
+     * {@link java.util.concurrent.CompletableFuture}, so that callers never block on JDBC. The executor should be
+     * bounded to the size of the connection pool. Defaults to none, running such query methods on the calling thread.
+     *
+     * @return
+     */
+    String queryExecutorRef() default "";
+
+    /**
+     * Configures the maximum number of threads of the bounded elastic scheduler running the operations of
+     * {@link org.springframework.data.ebean.repository.ReactiveEbeanRepository}s and their query methods returning a
+     * {@link reactor.core.publisher.Flux} or a {@link reactor.core.publisher.Mono}. It should match the size of the
+     * connection pool, as each thread holds a connection while it blocks on JDBC. The scheduler is only created when
+     * Project Reactor is on the classpath and a repository uses reactive types.
+     *
+     * @return
+     */
+    int reactiveThreadCap() default 10;
+
+    /**
+     * Configures the maximum number of concurrently executing queries of each repository, so that one repository can
+     * not exhaust the connection pool. Repository interfaces and query methods annotated with
+     * {@link org.springframework.data.ebean.annotation.ConcurrencyLimit} use their own limit. Defaults to {@literal 0},
+     * i.e. unlimited.
+     *
+     * @return
+     */
+    int maxConcurrentQueries() default 0;
+
+    /**
+     * Configures the maximum time in milliseconds a query waits when the maximum number of concurrent queries of its
+     * repository is reached, before being rejected. Defaults to {@literal 0}, rejecting such queries immediately.
+     *
+     * @return
+     */
+    long queryQueueTimeout() default 0;
+
+    /**
+     * Configures the timeout in seconds of the queries of each repository, after which their statement is cancelled.
+     * Query methods annotated with {@link org.springframework.data.ebean.annotation.QueryHints} may declare their own.
+     * Defaults to {@literal 0}, i.e. no timeout.
+     *
+     * @return
+     */
+    int queryTimeout() default 0;
+
+    /**
+     * Configures the JDBC fetch size of the queries of each repository, i.e. the number of rows the driver fetches per
+     * round trip. Query methods annotated with {@link org.springframework.data.ebean.annotation.QueryHints} may declare
+     * their own. Defaults to {@literal 0}, i.e. the driver default.
+     *
+     * @return
+     */
+    int queryFetchSize() default 0;
+
+    /**
+     * Configures the name of the {@link org.springframework.data.ebean.cache.CacheInvalidationBroadcaster} bean
+     * notifying the peer nodes of a cluster of the entities written by the repositories, so that they evict them from
+     * their bean, natural key and query caches. Modifying query methods invalidate all entities of their domain type.
+     * If empty, only the caches of this node are invalidated.
+     *
+     * @return
+     */
+    String cacheInvalidationBroadcasterRef() default "";
+
+    /**
+     * Configures the time in milliseconds after which the queries warming up the caches on startup, declared by
+     * {@link org.springframework.data.ebean.annotation.WarmUp} annotations of the repositories, are abandoned.
+     *
+     * @return
+     */
+    long warmUpTimeout() default 60000;
 }
@@ -17,9 +17,21 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.EbeanServer;
+import io.ebean.Query;
+import io.ebean.plugin.BeanType;
+import org.springframework.data.ebean.cache.CacheInvalidationBroadcaster;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static org.springframework.data.ebean.repository.query.AbstractEbeanQueryExecution.*;
 
@@ -32,6 +44,11 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
 
     private final EbeanQueryMethod method;
     private final EbeanServer ebeanServer;
+    private final Map<Class<?>, String> projectionSelects = new ConcurrentHashMap<>();
+    private QueryBulkhead bulkhead;
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+    private int timeout;
+    private int fetchSize;
 
     /**
      * Creates a new {@link AbstractEbeanQuery} from the given {@link EbeanQueryMethod}.
@@ -46,6 +63,15 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
 
         this.method = method;
         this.ebeanServer = ebeanServer;
+        this.timeout = Math.max(method.getTimeout(), 0);
+        this.fetchSize = Math.max(method.getFetchSize(), 0);
+
+        ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+        if (method.isStreamQuery() && (isDtoProjection(returnedType) || isScalar(returnedType))) {
+            throw new InvalidEbeanQueryMethodException(String.format(
+                    "Stream query method %s can not return %s, only entities and interface projections are streamed!",
+                    method, returnedType.getReturnedType().getName()));
+        }
     }
 
     /**
@@ -57,9 +83,64 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
         return ebeanServer;
     }
 
+    /**
+     * Set the {@link QueryBulkhead} limiting the concurrent executions of the query.
+     *
+     * @param bulkhead may be {@literal null}.
+     */
+    void setBulkhead(QueryBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Set the {@link CacheInvalidationBroadcaster} notifying the peer nodes of the entities modified by the query.
+     *
+     * @param cacheInvalidationBroadcaster may be {@literal null}.
+     */
+    void setCacheInvalidationBroadcaster(CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+    }
+
+    /**
+     * Broadcast the invalidation of all entities of the domain type after the query modified entities with unknown
+     * ids, if a {@link CacheInvalidationBroadcaster} is set.
+     */
+    void invalidateCaches() {
+        if (cacheInvalidationBroadcaster != null) {
+            cacheInvalidationBroadcaster.invalidateAll(method.getEntityInformation().getJavaType());
+        }
+    }
+
+    /**
+     * Applies the given repository defaults to the hints the query method does not declare itself.
+     *
+     * @param defaults must not be {@literal null}.
+     */
+    void setDefaultHints(DefaultQueryHints defaults) {
+        if (method.getTimeout() < 0) {
+            this.timeout = defaults.getTimeout();
+        }
+        if (method.getFetchSize() < 0) {
+            this.fetchSize = defaults.getFetchSize();
+        }
+    }
+
     @Override
     public Object execute(Object[] parameters) {
-        return doExecute(getExecution(), parameters);
+        if (bulkhead == null) {
+            return doExecute(getExecution(), parameters);
+        }
+        bulkhead.acquire();
+        Object result = null;
+        try {
+            result = doExecute(getExecution(), parameters);
+            // a stream holds its connection until it is closed
+            return result instanceof Stream ? ((Stream<?>) result).onClose(bulkhead::release) : result;
+        } finally {
+            if (!(result instanceof Stream)) {
+                bulkhead.release();
+            }
+        }
     }
 
     @Override
@@ -74,12 +155,129 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
      */
     private Object doExecute(AbstractEbeanQueryExecution execution, Object[] values) {
         Object result = execution.execute(this, values);
-        return result;
+        return getResultProcessor(values).processResult(result);
+    }
+
+    private ResultProcessor getResultProcessor(Object[] values) {
+        return method.getResultProcessor()
+                .withDynamicProjection(new ParametersParameterAccessor(method.getParameters(), values));
+    }
+
+    /**
+     * Returns the {@link ReturnedType} of the query method for the given parameter values, considering dynamic
+     * projections.
+     *
+     * @param values must not be {@literal null}.
+     * @return
+     */
+    protected ReturnedType getReturnedType(Object[] values) {
+        return getResultProcessor(values).getReturnedType();
+    }
+
+    /**
+     * Returns whether the given {@link ReturnedType} is a DTO, i.e. a projecting class rather than an interface or an
+     * entity type.
+     *
+     * @param returnedType must not be {@literal null}.
+     * @return
+     */
+    protected boolean isDtoProjection(ReturnedType returnedType) {
+        return returnedType.isProjecting() && !returnedType.getReturnedType().isInterface()
+                && !isEntityType(returnedType.getReturnedType());
+    }
+
+    /**
+     * Returns whether the given type is an entity type of the {@link EbeanServer}.
+     *
+     * @param type must not be {@literal null}.
+     * @return
+     */
+    protected boolean isEntityType(Class<?> type) {
+        return ebeanServer.getPluginApi().getBeanType(type) != null;
+    }
+
+    /**
+     * Returns the entity type read by the query: the type returned by the query method if it is an entity type, e.g.
+     * for a declared query of another entity, and the domain type of the repository otherwise.
+     *
+     * @return
+     */
+    protected Class<?> getQueryEntityType() {
+        Class<?> returnedType = method.getResultProcessor().getReturnedType().getReturnedType();
+        return isEntityType(returnedType) ? returnedType : method.getEntityInformation().getJavaType();
+    }
+
+    /**
+     * Returns whether the given {@link ReturnedType} is a scalar, i.e. a single column value such as a number, a
+     * {@link String} or an {@link java.util.UUID} rather than an entity or projection.
+     *
+     * @param returnedType must not be {@literal null}.
+     * @return
+     */
+    protected static boolean isScalar(ReturnedType returnedType) {
+        Class<?> type = returnedType.getReturnedType();
+        return !returnedType.isProjecting() && !type.isAssignableFrom(returnedType.getDomainType())
+                && !returnedType.getDomainType().isAssignableFrom(type)
+                && type != void.class && type != Void.class;
+    }
+
+    /**
+     * Applies the projection the query method returns to the given ORM query. Closed interface projections and DTOs
+     * with constructor properties restrict the selected properties to the ones they need, DTO return types are read
+     * through a {@link io.ebean.DtoQuery} without hydrating entities.
+     *
+     * @param query          must not be {@literal null}.
+     * @param values         must not be {@literal null}.
+     * @param restrictSelect whether the selected properties may be restricted, i.e. the query declares no select.
+     * @return
+     */
+    protected EbeanQueryWrapper applyProjection(EbeanQueryWrapper query, Object[] values, boolean restrictSelect) {
+        ReturnedType returnedType = getReturnedType(values);
+        if (query.getQueryType() != EbeanQueryWrapper.QueryType.QUERY || !returnedType.isProjecting()
+                || isEntityType(returnedType.getReturnedType())) {
+            return query;
+        }
+
+        if (restrictSelect) {
+            String select = projectionSelects.computeIfAbsent(returnedType.getReturnedType(),
+                    type -> getProjectionSelect(returnedType));
+            if (!select.isEmpty()) {
+                ((Query<?>) query.getQueryInstance()).select(select);
+            }
+        }
+        if (isDtoProjection(returnedType)) {
+            query.setDtoType(returnedType.getReturnedType());
+        }
+        return query;
+    }
+
+    /**
+     * Returns the select clause for the input properties of the given projection or an empty {@link String} if the
+     * projection is open or needs properties unknown to the entity.
+     *
+     * @param returnedType
+     * @return
+     */
+    private String getProjectionSelect(ReturnedType returnedType) {
+        List<String> properties = returnedType.getInputProperties();
+        if (properties.isEmpty()) {
+            return "";
+        }
+        BeanType<?> beanType = ebeanServer.getPluginApi().getBeanType(returnedType.getDomainType());
+        for (String property : properties) {
+            if (beanType == null || beanType.getProperty(property) == null) {
+                return "";
+            }
+        }
+        return StringUtils.collectionToCommaDelimitedString(properties);
     }
 
     protected AbstractEbeanQueryExecution getExecution() {
+        Class<?> returnType = method.getReturnType();
         if (method.isStreamQuery()) {
             return new StreamExecution();
+        } else if (returnType.isArray() && returnType.getComponentType().isPrimitive()) {
+            return new PrimitiveArrayExecution(returnType.getComponentType());
         } else if (method.isCollectionQuery()) {
             return new AbstractEbeanQueryExecution.CollectionExecution();
         } else if (method.isSliceQuery()) {
@@ -98,7 +296,21 @@ public abstract class AbstractEbeanQuery implements RepositoryQuery {
     }
 
     protected EbeanQueryWrapper createQuery(Object[] values) {
-        return doCreateQuery(values);
+        EbeanQueryWrapper query = doCreateQuery(values);
+        if (timeout > 0) {
+            query.setTimeout(timeout);
+        }
+        if (fetchSize > 0) {
+            query.setFetchSize(fetchSize);
+        }
+        if (method.isReadOnly()) {
+            query.setReadOnly();
+        }
+        if (method.getPersistenceContextScope() != null) {
+            query.setPersistenceContextScope(method.getPersistenceContextScope());
+        }
+        QueryCancellation.register(query);
+        return query;
     }
 
     /**
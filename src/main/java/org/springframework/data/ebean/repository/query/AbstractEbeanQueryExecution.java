@@ -17,6 +17,7 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.EbeanServer;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.core.support.SurroundingTransactionDetectorMethodInterceptor;
@@ -24,6 +25,8 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
 
 /**
  * Set of classes to contain query execution strategies. Depending (mostly) on the return type of a
@@ -69,6 +72,31 @@ public abstract class AbstractEbeanQueryExecution {
         }
     }
 
+    /**
+     * Executes the query to return the single selected column as an array of primitives.
+     *
+     * @author Xuegui Yuan
+     */
+    static class PrimitiveArrayExecution extends AbstractEbeanQueryExecution {
+
+        private final Class<?> componentType;
+
+        /**
+         * Creates a new {@link PrimitiveArrayExecution} for arrays of the given component type.
+         *
+         * @param componentType must be a primitive type.
+         */
+        public PrimitiveArrayExecution(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
+            EbeanQueryWrapper createQuery = query.createQuery(values);
+            return createQuery.findPrimitiveArray(new PrimitiveArrayBuilder(componentType));
+        }
+    }
+
     /**
      * Executes the query to return a {@link Slice} of entities.
      *
@@ -163,7 +191,9 @@ public abstract class AbstractEbeanQueryExecution {
         @Override
         protected Object doExecute(AbstractEbeanQuery query, Object[] values) {
             EbeanQueryWrapper createQuery = query.createQuery(values);
-            return createQuery.update();
+            Object result = createQuery.update();
+            query.invalidateCaches();
+            return result;
         }
     }
 
@@ -187,7 +217,9 @@ public abstract class AbstractEbeanQueryExecution {
         @Override
         protected Object doExecute(AbstractEbeanQuery ebeanQuery, Object[] values) {
             EbeanQueryWrapper createQuery = ebeanQuery.createQuery(values);
-            return createQuery.delete();
+            Object result = createQuery.delete();
+            ebeanQuery.invalidateCaches();
+            return result;
         }
     }
 
@@ -205,8 +237,79 @@ public abstract class AbstractEbeanQueryExecution {
         }
     }
 
+    /**
+     * {@link AbstractEbeanQueryExecution} counting the entities matching the query with a single
+     * {@code select count(*)}.
+     *
+     * @author Xuegui Yuan
+     */
+    static class CountExecution extends AbstractEbeanQueryExecution {
+
+        private final Class<?> returnType;
+
+        public CountExecution(Class<?> returnType) {
+            this.returnType = returnType;
+        }
+
+        @Override
+        protected Object doExecute(AbstractEbeanQuery ebeanQuery, Object[] values) {
+            EbeanQueryWrapper createQuery = ebeanQuery.createQuery(values);
+            return convertNumber(createQuery.count(), returnType);
+        }
+    }
+
+    /**
+     * {@link AbstractEbeanQueryExecution} computing a single SQL aggregate such as {@code max(age)} over the entities
+     * matching the query.
+     *
+     * @author Xuegui Yuan
+     */
+    static class AggregateExecution extends AbstractEbeanQueryExecution {
+
+        private final String aggregate;
+        private final Class<?> returnType;
+
+        /**
+         * Creates a new {@link AggregateExecution}.
+         *
+         * @param aggregate  the aggregate select clause, e.g. {@code max(age)}.
+         * @param returnType the return type of the query method.
+         */
+        public AggregateExecution(String aggregate, Class<?> returnType) {
+            this.aggregate = aggregate;
+            this.returnType = returnType;
+        }
+
+        @Override
+        protected Object doExecute(AbstractEbeanQuery ebeanQuery, Object[] values) {
+            EbeanQueryWrapper createQuery = ebeanQuery.createQuery(values);
+            return convertNumber(createQuery.findAggregate(aggregate), returnType);
+        }
+    }
+
+    /**
+     * Converts the given number to the given return type, mapping {@literal null} to zero for primitive return types.
+     *
+     * @param value      may be {@literal null}.
+     * @param returnType must not be {@literal null}.
+     * @return
+     */
+    private static Object convertNumber(Object value, Class<?> returnType) {
+        if (value == null) {
+            value = returnType.isPrimitive() ? 0 : null;
+        }
+        if (value == null || returnType.isInstance(value)) {
+            return value;
+        }
+        return DefaultConversionService.getSharedInstance().convert(value, ClassUtils.resolvePrimitiveIfNecessary(returnType));
+    }
+
     /**
      * {@link AbstractEbeanQueryExecution} executing a Java 8 Stream.
+     * <p>
+     * Entities are streamed through {@link io.ebean.Query#findIterate()}, which loads every row into a fresh
+     * persistence context, so a long stream does not grow the persistence context of the surrounding transaction.
+     * DTOs and scalars are only read through callbacks by Ebean and can not be streamed.
      *
      * @author Xuegui Yuan
      */
@@ -220,7 +323,8 @@ public abstract class AbstractEbeanQueryExecution {
          */
         @Override
         protected Object doExecute(final AbstractEbeanQuery ebeanQuery, Object[] values) {
-            if (!SurroundingTransactionDetectorMethodInterceptor.INSTANCE.isSurroundingTransactionActive()) {
+            if (!ebeanQuery.getQueryMethod().isFluxQuery()
+                    && !SurroundingTransactionDetectorMethodInterceptor.INSTANCE.isSurroundingTransactionActive()) {
                 throw new InvalidDataAccessApiUsageException(NO_SURROUNDING_TRANSACTION);
             }
 
@@ -21,6 +21,8 @@ import org.springframework.data.repository.query.*;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Base class for {@link String} based Ebean queries.
@@ -29,7 +31,10 @@ import org.springframework.util.Assert;
  */
 abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
 
+    private static final Pattern SELECT_CLAUSE = Pattern.compile("\\bselect\\b", Pattern.CASE_INSENSITIVE);
+
     private final StringQuery query;
+    private final boolean declaresSelect;
     private final QueryMethodEvaluationContextProvider evaluationContextProvider;
     private final SpelExpressionParser parser;
 
@@ -54,6 +59,7 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
 
         this.evaluationContextProvider = evaluationContextProvider;
         this.query = new ExpressionBasedStringQuery(queryString, method.getEntityInformation(), parser);
+        this.declaresSelect = SELECT_CLAUSE.matcher(queryString).find();
         this.parser = parser;
     }
 
@@ -64,6 +70,31 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
         return query;
     }
 
+    /**
+     * Validates the query by handing it to the {@link EbeanServer}, so that malformed queries and queries referencing
+     * unknown properties are reported when the query method is resolved instead of on its first execution.
+     *
+     * @throws InvalidEbeanQueryMethodException if the query is invalid.
+     */
+    void validate() {
+        EbeanQueryWrapper query;
+        try {
+            query = createEbeanQuery(this.query.getQueryString());
+        } catch (RuntimeException e) {
+            throw new InvalidEbeanQueryMethodException(String.format("Invalid query '%s' declared on method %s!",
+                    this.query.getQueryString(), getQueryMethod()), e);
+        }
+
+        if (query.getQueryType() == EbeanQueryWrapper.QueryType.QUERY) {
+            Set<String> unknownProperties = ((io.ebean.Query<?>) query.getQueryInstance()).validate();
+            if (!unknownProperties.isEmpty()) {
+                throw new InvalidEbeanQueryMethodException(String.format(
+                        "Query '%s' declared on method %s references unknown properties %s!",
+                        this.query.getQueryString(), getQueryMethod(), unknownProperties));
+            }
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.ebean.repository.query.AbstractEbeanQuery#doCreateQuery(java.lang.Object[])
@@ -74,7 +105,24 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
 
         EbeanQueryWrapper query = createEbeanQuery(this.query.getQueryString());
 
-        return createBinder(values).bindAndPrepare(query);
+        return createBinder(values).bindAndPrepare(applyProjection(query, values));
+    }
+
+    /**
+     * Applies the projection of the query method to the given query, restricting the selected properties only if the
+     * query string does not declare them itself. Scalar return types read the single selected property.
+     *
+     * @param query
+     * @param values
+     * @return
+     */
+    protected EbeanQueryWrapper applyProjection(EbeanQueryWrapper query, Object[] values) {
+        ReturnedType returnedType = getReturnedType(values);
+        if (query.getQueryType() == EbeanQueryWrapper.QueryType.QUERY && isScalar(returnedType)) {
+            query.setScalarType(returnedType.getReturnedType());
+            return query;
+        }
+        return applyProjection(query, values, !declaresSelect);
     }
 
     /*
@@ -97,9 +145,6 @@ abstract class AbstractStringBasedEbeanQuery extends AbstractEbeanQuery {
     protected EbeanQueryWrapper createEbeanQuery(String queryString) {
         EbeanServer ebeanServer = getEbeanServer();
 
-        ResultProcessor resultFactory = getQueryMethod().getResultProcessor();
-        ReturnedType returnedType = resultFactory.getReturnedType();
-
-        return EbeanQueryWrapper.ofEbeanQuery(ebeanServer.createQuery(returnedType.getReturnedType(), queryString));
+        return EbeanQueryWrapper.ofEbeanQuery(ebeanServer.createQuery(getQueryEntityType(), queryString));
     }
 }
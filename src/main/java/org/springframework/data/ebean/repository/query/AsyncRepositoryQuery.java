@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * {@link RepositoryQuery} executing the query of a method returning a {@link CompletableFuture} on the given
+ * {@link Executor}, so that the calling thread never blocks on JDBC. The executor should be bounded to the size of the
+ * connection pool, as every running query holds a connection.
+ * <p>
+ * Cancelling the returned future skips the query if it did not start yet and otherwise stops it before its next row is
+ * read. A statement still executing runs until it completes or reaches the query timeout.
+ *
+ * @author Xuegui Yuan
+ */
+final class AsyncRepositoryQuery implements RepositoryQuery {
+
+    private final EbeanQueryMethod method;
+    private final RepositoryQuery query;
+    private final Executor executor;
+    private final boolean optional;
+
+    /**
+     * Creates a new {@link AsyncRepositoryQuery}.
+     *
+     * @param method   must not be {@literal null}.
+     * @param query    must not be {@literal null}.
+     * @param executor must not be {@literal null}.
+     */
+    AsyncRepositoryQuery(EbeanQueryMethod method, RepositoryQuery query, Executor executor) {
+        Assert.notNull(method, "EbeanQueryMethod must not be null!");
+        Assert.notNull(query, "RepositoryQuery must not be null!");
+        Assert.notNull(executor, "Executor must not be null!");
+        Class<?> resultType = ResolvableType.forMethodReturnType(method.getMethod()).getGeneric(0).resolve(Object.class);
+        Assert.isTrue(!Stream.class.isAssignableFrom(resultType),
+                "Streams can not be returned asynchronously as they need an open connection!");
+        this.method = method;
+        this.query = query;
+        this.executor = executor;
+        this.optional = Optional.class.equals(resultType);
+    }
+
+    /**
+     * Returns whether the given method returns a {@link CompletableFuture}.
+     *
+     * @param method must not be {@literal null}.
+     * @return
+     */
+    static boolean isAsync(EbeanQueryMethod method) {
+        return CompletableFuture.class.equals(method.getReturnType());
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        QueryCancellation cancellation = new QueryCancellation();
+        CancellableFuture future = new CancellableFuture(cancellation);
+        executor.execute(() -> {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+            cancellation.bind();
+            try {
+                Object result = query.execute(parameters);
+                future.complete(optional && !(result instanceof Optional) ? Optional.ofNullable(result) : result);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                cancellation.unbind();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public EbeanQueryMethod getQueryMethod() {
+        return method;
+    }
+
+    /**
+     * {@link CompletableFuture} cancelling the query when cancelled.
+     */
+    private static final class CancellableFuture extends CompletableFuture<Object> {
+
+        private final QueryCancellation cancellation;
+
+        CancellableFuture(QueryCancellation cancellation) {
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancellation.cancel();
+            }
+            return cancelled;
+        }
+    }
+}
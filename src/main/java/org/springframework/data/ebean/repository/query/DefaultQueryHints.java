@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable query hints applied to the queries of a repository whose query method does not declare its own through
+ * {@link org.springframework.data.ebean.annotation.QueryHints}.
+ *
+ * @author Xuegui Yuan
+ */
+public final class DefaultQueryHints {
+
+    /**
+     * No hints, the driver defaults apply.
+     */
+    public static final DefaultQueryHints NONE = new DefaultQueryHints(0, 0);
+
+    private final int timeout;
+    private final int fetchSize;
+
+    private DefaultQueryHints(int timeout, int fetchSize) {
+        this.timeout = timeout;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Returns a copy of these hints with the given query timeout.
+     *
+     * @param timeout the timeout in seconds, {@literal 0} for none.
+     * @return
+     */
+    public DefaultQueryHints withTimeout(int timeout) {
+        Assert.isTrue(timeout >= 0, "Query timeout must not be negative!");
+        return new DefaultQueryHints(timeout, fetchSize);
+    }
+
+    /**
+     * Returns a copy of these hints with the given JDBC fetch size.
+     *
+     * @param fetchSize the number of rows fetched per round trip, {@literal 0} for the driver default.
+     * @return
+     */
+    public DefaultQueryHints withFetchSize(int fetchSize) {
+        Assert.isTrue(fetchSize >= 0, "Fetch size must not be negative!");
+        return new DefaultQueryHints(timeout, fetchSize);
+    }
+
+    /**
+     * Returns the query timeout in seconds, {@literal 0} for none.
+     *
+     * @return
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the JDBC fetch size, {@literal 0} for the driver default.
+     *
+     * @return
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@link RepositoryQuery} deferring the resolution of the actual query (method name parsing, query string parsing,
+ * named query lookup) until it is first executed or explicitly resolved via {@link #resolve()}.
+ *
+ * @author Xuegui Yuan
+ */
+public class DeferredRepositoryQuery implements RepositoryQuery {
+
+    private final EbeanQueryMethod method;
+    private final Supplier<RepositoryQuery> resolver;
+    private final Lock lock = new ReentrantLock();
+    private volatile RepositoryQuery query;
+
+    /**
+     * Creates a new {@link DeferredRepositoryQuery}.
+     *
+     * @param method   must not be {@literal null}.
+     * @param resolver must not be {@literal null}.
+     */
+    DeferredRepositoryQuery(EbeanQueryMethod method, Supplier<RepositoryQuery> resolver) {
+        Assert.notNull(method, "EbeanQueryMethod must not be null!");
+        Assert.notNull(resolver, "Resolver must not be null!");
+        this.method = method;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Resolves the actual query if not resolved yet. Concurrent callers wait on a {@link Lock} rather than a monitor,
+     * which would pin the carrier thread of virtual threads while the query is resolved.
+     *
+     * @return the resolved query
+     */
+    public RepositoryQuery resolve() {
+        RepositoryQuery result = query;
+        if (result == null) {
+            lock.lock();
+            try {
+                result = query;
+                if (result == null) {
+                    result = resolver.get();
+                    query = result;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the actual query has been resolved.
+     *
+     * @return
+     */
+    public boolean isResolved() {
+        return query != null;
+    }
+
+    @Override
+    public Object execute(Object[] parameters) {
+        return resolve().execute(parameters);
+    }
+
+    @Override
+    public EbeanQueryMethod getQueryMethod() {
+        return method;
+    }
+}
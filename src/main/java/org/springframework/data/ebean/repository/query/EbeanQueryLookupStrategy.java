@@ -17,6 +17,7 @@
 package org.springframework.data.ebean.repository.query;
 
 import io.ebean.EbeanServer;
+import org.springframework.data.ebean.cache.CacheInvalidationBroadcaster;
 import org.springframework.data.ebean.annotation.Query;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -26,8 +27,10 @@ import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.Assert;
+import reactor.core.scheduler.Scheduler;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 
 /**
  * EbeanQueryWrapper lookup strategy to execute finders.
@@ -52,6 +55,64 @@ public final class EbeanQueryLookupStrategy {
      */
     public static QueryLookupStrategy create(EbeanServer ebeanServer, Key key,
                                              QueryMethodEvaluationContextProvider evaluationContextProvider) {
+        return create(ebeanServer, key, evaluationContextProvider, false, false, null, null, null, null,
+                DefaultQueryHints.NONE);
+    }
+
+    /**
+     * Creates a {@link QueryLookupStrategy} for the given {@link EbeanServer} and {@link Key}, optionally deferring the
+     * resolution of each query until it is first executed or resolved through {@link DeferredRepositoryQuery#resolve()}.
+     * Declared queries are optionally validated against the {@link EbeanServer} when they are resolved. Query methods
+     * returning a {@link java.util.concurrent.CompletableFuture} are executed on the given {@link Executor} if any,
+     * query methods returning a {@link reactor.core.publisher.Flux} or a {@link reactor.core.publisher.Mono} on the given
+     * {@link Scheduler} if any, and queries are limited by the given {@link QueryBulkheads} if any. Modifying queries
+     * broadcast the invalidation of their domain type through the given {@link CacheInvalidationBroadcaster} if any.
+     * The given {@link DefaultQueryHints} apply to the query methods not declaring their own.
+     *
+     * @param ebeanServer                  must not be {@literal null}.
+     * @param key                          may be {@literal null}.
+     * @param evaluationContextProvider    must not be {@literal null}.
+     * @param deferQueryResolution         whether to return {@link DeferredRepositoryQuery}s.
+     * @param validateQueries              whether to validate declared queries on resolution.
+     * @param queryExecutor                executor of asynchronous query methods, may be {@literal null}.
+     * @param reactiveScheduler            scheduler of reactive query methods, may be {@literal null}.
+     * @param bulkheads                    bulkheads of the repository, may be {@literal null}.
+     * @param cacheInvalidationBroadcaster broadcaster of modifying queries, may be {@literal null}.
+     * @param defaultHints                 must not be {@literal null}.
+     * @return
+     */
+    public static QueryLookupStrategy create(EbeanServer ebeanServer, Key key,
+                                             QueryMethodEvaluationContextProvider evaluationContextProvider,
+                                             boolean deferQueryResolution, boolean validateQueries,
+                                             Executor queryExecutor, Scheduler reactiveScheduler,
+                                             QueryBulkheads bulkheads,
+                                             CacheInvalidationBroadcaster cacheInvalidationBroadcaster,
+                                             DefaultQueryHints defaultHints) {
+        Assert.notNull(defaultHints, "DefaultQueryHints must not be null!");
+        AbstractQueryLookupStrategy strategy = createStrategy(ebeanServer, key, evaluationContextProvider);
+        if (defaultHints != DefaultQueryHints.NONE) {
+            strategy = new DefaultHintsQueryLookupStrategy(ebeanServer, strategy, defaultHints);
+        }
+        if (validateQueries) {
+            strategy = new ValidatingQueryLookupStrategy(ebeanServer, strategy);
+        }
+        if (bulkheads != null) {
+            strategy = new BulkheadQueryLookupStrategy(ebeanServer, strategy, bulkheads);
+        }
+        if (cacheInvalidationBroadcaster != null) {
+            strategy = new CacheInvalidationQueryLookupStrategy(ebeanServer, strategy, cacheInvalidationBroadcaster);
+        }
+        if (queryExecutor != null) {
+            strategy = new AsyncQueryLookupStrategy(ebeanServer, strategy, queryExecutor);
+        }
+        if (reactiveScheduler != null) {
+            strategy = new ReactiveQueryLookupStrategy(ebeanServer, strategy, reactiveScheduler);
+        }
+        return deferQueryResolution ? new DeferredQueryLookupStrategy(ebeanServer, strategy) : strategy;
+    }
+
+    private static AbstractQueryLookupStrategy createStrategy(EbeanServer ebeanServer, Key key,
+                                                              QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
         Assert.notNull(ebeanServer, "EbeanServer must not be null!");
         Assert.notNull(evaluationContextProvider, "EvaluationContextProvider must not be null!");
@@ -130,6 +191,232 @@ public final class EbeanQueryLookupStrategy {
         protected abstract RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries);
     }
 
+    /**
+     * {@link QueryLookupStrategy} returning {@link DeferredRepositoryQuery}s that resolve the query through the given
+     * delegate strategy on first use.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class DeferredQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+
+        /**
+         * Creates a new {@link DeferredQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         */
+        public DeferredQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate) {
+            super(ebeanServer);
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            return new DeferredRepositoryQuery(method, () -> delegate.resolveQuery(method, ebeanServer, namedQueries));
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} validating the declared queries resolved through the given delegate strategy against
+     * the {@link EbeanServer}.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class ValidatingQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+
+        /**
+         * Creates a new {@link ValidatingQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         */
+        public ValidatingQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate) {
+            super(ebeanServer);
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            if (query instanceof AbstractStringBasedEbeanQuery) {
+                ((AbstractStringBasedEbeanQuery) query).validate();
+            }
+            return query;
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} limiting the queries resolved through the given delegate strategy with the
+     * {@link QueryBulkhead} of their query method.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class BulkheadQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+        private final QueryBulkheads bulkheads;
+
+        /**
+         * Creates a new {@link BulkheadQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         * @param bulkheads
+         */
+        public BulkheadQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate,
+                                           QueryBulkheads bulkheads) {
+            super(ebeanServer);
+            this.delegate = delegate;
+            this.bulkheads = bulkheads;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            if (query instanceof AbstractEbeanQuery) {
+                ((AbstractEbeanQuery) query).setBulkhead(bulkheads.forMethod(method));
+            }
+            return query;
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} broadcasting the cache invalidations of the modifying queries resolved through the
+     * given delegate strategy.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class CacheInvalidationQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+        private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+        /**
+         * Creates a new {@link CacheInvalidationQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         * @param cacheInvalidationBroadcaster
+         */
+        public CacheInvalidationQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate,
+                                                    CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+            super(ebeanServer);
+            this.delegate = delegate;
+            this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            if (query instanceof AbstractEbeanQuery) {
+                ((AbstractEbeanQuery) query).setCacheInvalidationBroadcaster(cacheInvalidationBroadcaster);
+            }
+            return query;
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} applying the {@link DefaultQueryHints} of the repository to the queries resolved
+     * through the given delegate strategy.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class DefaultHintsQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+        private final DefaultQueryHints defaultHints;
+
+        /**
+         * Creates a new {@link DefaultHintsQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         * @param defaultHints
+         */
+        public DefaultHintsQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate,
+                                               DefaultQueryHints defaultHints) {
+            super(ebeanServer);
+            this.delegate = delegate;
+            this.defaultHints = defaultHints;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            if (query instanceof AbstractEbeanQuery) {
+                ((AbstractEbeanQuery) query).setDefaultHints(defaultHints);
+            }
+            return query;
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} executing the query methods returning a {@link java.util.concurrent.CompletableFuture}
+     * resolved through the given delegate strategy on an {@link Executor}.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class AsyncQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+        private final Executor executor;
+
+        /**
+         * Creates a new {@link AsyncQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         * @param executor
+         */
+        public AsyncQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate, Executor executor) {
+            super(ebeanServer);
+            this.delegate = delegate;
+            this.executor = executor;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            return AsyncRepositoryQuery.isAsync(method) ? new AsyncRepositoryQuery(method, query, executor) : query;
+        }
+    }
+
+    /**
+     * {@link QueryLookupStrategy} executing the query methods returning a {@link reactor.core.publisher.Flux} or a
+     * {@link reactor.core.publisher.Mono} resolved through the given delegate strategy on a {@link Scheduler}.
+     *
+     * @author Xuegui Yuan
+     */
+    private static class ReactiveQueryLookupStrategy extends AbstractQueryLookupStrategy {
+
+        private final AbstractQueryLookupStrategy delegate;
+        private final Scheduler scheduler;
+
+        /**
+         * Creates a new {@link ReactiveQueryLookupStrategy}.
+         *
+         * @param ebeanServer
+         * @param delegate
+         * @param scheduler
+         */
+        public ReactiveQueryLookupStrategy(EbeanServer ebeanServer, AbstractQueryLookupStrategy delegate,
+                                           Scheduler scheduler) {
+            super(ebeanServer);
+            this.delegate = delegate;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        protected RepositoryQuery resolveQuery(EbeanQueryMethod method, EbeanServer ebeanServer, NamedQueries namedQueries) {
+            RepositoryQuery query = delegate.resolveQuery(method, ebeanServer, namedQueries);
+            return ReactiveRepositoryQuery.isReactive(method) ? new ReactiveRepositoryQuery(method, query, scheduler) : query;
+        }
+    }
+
     /**
      * {@link QueryLookupStrategy} to try to detect a declared query first (
      * {@link Query}, ebean named query). In case none is found we fall back on
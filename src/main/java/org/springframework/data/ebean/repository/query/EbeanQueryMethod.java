@@ -16,17 +16,20 @@
 
 package org.springframework.data.ebean.repository.query;
 
+import io.ebean.PersistenceContextScope;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.ebean.annotation.Modifying;
+import org.springframework.data.ebean.annotation.PersistenceContextScoped;
 import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.annotation.QueryHints;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.util.ReactiveWrappers;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 
 /**
@@ -37,6 +40,7 @@ import java.lang.reflect.Method;
 public class EbeanQueryMethod extends QueryMethod {
 
     private final Method method;
+    private final QueryAnnotationDescriptor annotations;
 
     /**
      * Creates a {@link EbeanQueryMethod}.
@@ -50,6 +54,16 @@ public class EbeanQueryMethod extends QueryMethod {
         Assert.notNull(method, "Method must not be null!");
 
         this.method = method;
+        this.annotations = new QueryAnnotationDescriptor(method, metadata.getRepositoryInterface());
+    }
+
+    /**
+     * Returns the repository method backing the query method.
+     *
+     * @return
+     */
+    Method getMethod() {
+        return method;
     }
 
     /**
@@ -61,6 +75,36 @@ public class EbeanQueryMethod extends QueryMethod {
         return method.getReturnType();
     }
 
+    /**
+     * Returns whether the method returns a reactive wrapper of multiple results, such as a
+     * {@link reactor.core.publisher.Flux}.
+     *
+     * @return
+     */
+    boolean isFluxQuery() {
+        return ReactiveWrappers.isMultiValueType(method.getReturnType());
+    }
+
+    /**
+     * Also considers methods returning a reactive wrapper of multiple results as stream queries, their rows being read
+     * through a {@link java.util.stream.Stream} as they are requested.
+     */
+    @Override
+    public boolean isStreamQuery() {
+        // called by the super constructor before the method is set
+        return super.isStreamQuery() || (method != null && isFluxQuery());
+    }
+
+    /**
+     * Does not consider methods returning a reactive wrapper of a single result, such as a
+     * {@link reactor.core.publisher.Mono}, as collection queries.
+     */
+    @Override
+    public boolean isCollectionQuery() {
+        return (method == null || !ReactiveWrappers.isSingleValueType(method.getReturnType()))
+                && super.isCollectionQuery();
+    }
+
     /**
      * Returns the query string declared in a {@link Query} annotation or {@literal null} if neither the annotation found
      * nor the attribute was specified.
@@ -68,39 +112,53 @@ public class EbeanQueryMethod extends QueryMethod {
      * @return
      */
     String getAnnotatedQuery() {
-        String query = getAnnotationValue("value", String.class);
-        return StringUtils.hasText(query) ? query : null;
+        return annotations.query;
     }
 
     /**
-     * Returns the {@link Query} annotation's attribute casted to the given type or default value if no annotation
-     * available.
+     * Returns whether the backing query is a native one.
      *
-     * @param attribute
-     * @param type
      * @return
      */
-    private <T> T getAnnotationValue(String attribute, Class<T> type) {
-        return getMergedOrDefaultAnnotationValue(attribute, Query.class, type);
+    boolean isNativeQuery() {
+        return annotations.nativeQuery;
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
-    private <T> T getMergedOrDefaultAnnotationValue(String attribute, Class annotationType, Class<T> targetType) {
-        Annotation annotation = AnnotatedElementUtils.findMergedAnnotation(method, annotationType);
-        if (annotation == null) {
-            return targetType.cast(AnnotationUtils.getDefaultValue(annotationType, attribute));
-        }
+    /**
+     * Returns the query timeout in seconds declared through {@link QueryHints}, {@literal -1} if none is declared.
+     *
+     * @return
+     */
+    int getTimeout() {
+        return annotations.timeout;
+    }
 
-        return targetType.cast(AnnotationUtils.getValue(annotation, attribute));
+    /**
+     * Returns the JDBC fetch size declared through {@link QueryHints}, {@literal -1} if none is declared.
+     *
+     * @return
+     */
+    int getFetchSize() {
+        return annotations.fetchSize;
     }
 
     /**
-     * Returns whether the backing query is a native one.
+     * Returns whether the entities returned by the query are read-only as declared through {@link QueryHints}.
      *
      * @return
      */
-    boolean isNativeQuery() {
-        return getAnnotationValue("nativeQuery", Boolean.class).booleanValue();
+    boolean isReadOnly() {
+        return annotations.readOnly;
+    }
+
+    /**
+     * Returns the {@link PersistenceContextScope} declared through {@link PersistenceContextScoped} on the method or
+     * the repository interface, {@literal null} if none is declared.
+     *
+     * @return
+     */
+    PersistenceContextScope getPersistenceContextScope() {
+        return annotations.persistenceContextScope;
     }
 
     /*
@@ -109,8 +167,7 @@ public class EbeanQueryMethod extends QueryMethod {
      */
     @Override
     public String getNamedQueryName() {
-        String annotatedName = getAnnotationValue("name", String.class);
-        return StringUtils.hasText(annotatedName) ? annotatedName : super.getNamedQueryName();
+        return annotations.name != null ? annotations.name : super.getNamedQueryName();
     }
 
     /**
@@ -120,6 +177,46 @@ public class EbeanQueryMethod extends QueryMethod {
      */
     @Override
     public boolean isModifyingQuery() {
-        return null != AnnotationUtils.findAnnotation(method, Modifying.class);
+        return annotations.modifying;
+    }
+
+    /**
+     * Immutable view of the query related annotations of a query method, looked up once when the query method is
+     * created instead of on every access.
+     */
+    private static final class QueryAnnotationDescriptor {
+
+        private final String query;
+        private final boolean nativeQuery;
+        private final String name;
+        private final boolean modifying;
+        private final int timeout;
+        private final int fetchSize;
+        private final boolean readOnly;
+        private final PersistenceContextScope persistenceContextScope;
+
+        QueryAnnotationDescriptor(Method method, Class<?> repositoryInterface) {
+            Query annotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+            if (annotation == null) {
+                this.query = null;
+                this.nativeQuery = false;
+                this.name = null;
+            } else {
+                this.query = StringUtils.hasText(annotation.value()) ? annotation.value() : null;
+                this.nativeQuery = annotation.nativeQuery();
+                this.name = StringUtils.hasText(annotation.name()) ? annotation.name() : null;
+            }
+            this.modifying = AnnotationUtils.findAnnotation(method, Modifying.class) != null;
+            QueryHints hints = AnnotatedElementUtils.findMergedAnnotation(method, QueryHints.class);
+            this.timeout = hints != null ? hints.timeout() : -1;
+            this.fetchSize = hints != null ? hints.fetchSize() : -1;
+            this.readOnly = hints != null && hints.readOnly();
+            PersistenceContextScoped scoped = AnnotatedElementUtils.findMergedAnnotation(method,
+                    PersistenceContextScoped.class);
+            if (scoped == null) {
+                scoped = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, PersistenceContextScoped.class);
+            }
+            this.persistenceContextScope = scoped != null ? scoped.value() : null;
+        }
     }
 }
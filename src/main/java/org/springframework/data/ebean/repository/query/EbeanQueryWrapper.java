@@ -16,30 +16,40 @@
 
 package org.springframework.data.ebean.repository.query;
 
+import io.ebean.DtoQuery;
 import io.ebean.PagedList;
+import io.ebean.PersistenceContextScope;
 import io.ebean.Query;
+import io.ebean.SqlQuery;
 import io.ebean.SqlUpdate;
 import io.ebean.Update;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.ebean.util.Converters;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.util.StreamUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.springframework.data.ebean.repository.query.EbeanQueryWrapper.QueryType.DTO_QUERY;
 import static org.springframework.data.ebean.repository.query.EbeanQueryWrapper.QueryType.QUERY;
+import static org.springframework.data.ebean.repository.query.EbeanQueryWrapper.QueryType.SQL_QUERY;
 
 /**
- * Ebean query wrapper, wrap Query、Update、SqlUpdate.
+ * Ebean query wrapper, wrap Query、Update、SqlUpdate、DtoQuery、SqlQuery.
  *
  * @author Xuegui Yuan
  */
 public class EbeanQueryWrapper<T> {
     private QueryType queryType;
     private T queryInstance;
+    private Class<?> dtoType;
+    private Class<?> scalarType;
+    private int fetchSize;
 
     public EbeanQueryWrapper(T queryInstance) {
         this.queryInstance = queryInstance;
@@ -49,6 +59,10 @@ public class EbeanQueryWrapper<T> {
             this.queryType = QueryType.UPDATE;
         } else if (queryInstance instanceof SqlUpdate) {
             this.queryType = QueryType.SQL_UPDATE;
+        } else if (queryInstance instanceof DtoQuery) {
+            this.queryType = QueryType.DTO_QUERY;
+        } else if (queryInstance instanceof SqlQuery) {
+            this.queryType = QueryType.SQL_QUERY;
         } else {
             throw new IllegalArgumentException("query not supported!");
         }
@@ -58,6 +72,38 @@ public class EbeanQueryWrapper<T> {
         return new EbeanQueryWrapper<T>(queryInstance);
     }
 
+    /**
+     * Reads the results of the wrapped ORM query into instances of the given DTO type instead of entities.
+     *
+     * @param dtoType the DTO type, may be {@literal null} to read entities.
+     */
+    void setDtoType(Class<?> dtoType) {
+        this.dtoType = dtoType;
+    }
+
+    /**
+     * Reads the single selected column of the wrapped ORM or SQL query as values of the given scalar type instead of
+     * entities or rows.
+     *
+     * @param scalarType the scalar type, may be {@literal null} to read entities.
+     */
+    void setScalarType(Class<?> scalarType) {
+        this.scalarType = scalarType == null ? null : ClassUtils.resolvePrimitiveIfNecessary(scalarType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> DtoQuery<E> asDto() {
+        DtoQuery<E> query = ((Query<?>) queryInstance).asDto((Class<E>) dtoType).setRelaxedMode();
+        return fetchSize > 0 ? query.setBufferFetchSizeHint(fetchSize) : query;
+    }
+
+    /**
+     * Returns whether the wrapped query reads entities, i.e. is an ORM query neither mapped to DTOs nor scalars.
+     */
+    private boolean isEntityQuery() {
+        return queryType == QUERY && dtoType == null && scalarType == null;
+    }
+
     void setParameter(String name, Object value) {
         switch (queryType) {
             case QUERY:
@@ -69,6 +115,12 @@ public class EbeanQueryWrapper<T> {
             case SQL_UPDATE:
                 ((SqlUpdate) queryInstance).setParameter(name, value);
                 break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setParameter(name, value);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setParameter(name, value);
+                break;
             default:
                 throw new IllegalArgumentException("query not supported!");
         }
@@ -85,22 +137,120 @@ public class EbeanQueryWrapper<T> {
             case SQL_UPDATE:
                 ((SqlUpdate) queryInstance).setParameter(position, value);
                 break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setParameter(position, value);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setParameter(position, value);
+                break;
+            default:
+                throw new IllegalArgumentException("query not supported!");
+        }
+    }
+
+    /**
+     * Sets the timeout in seconds after which the statement of the wrapped query is cancelled.
+     *
+     * @param seconds the timeout, must be greater than zero.
+     */
+    void setTimeout(int seconds) {
+        switch (queryType) {
+            case QUERY:
+                ((Query) queryInstance).setTimeout(seconds);
+                break;
+            case UPDATE:
+                ((Update) queryInstance).setTimeout(seconds);
+                break;
+            case SQL_UPDATE:
+                ((SqlUpdate) queryInstance).setTimeout(seconds);
+                break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setTimeout(seconds);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setTimeout(seconds);
+                break;
             default:
                 throw new IllegalArgumentException("query not supported!");
         }
     }
 
+    /**
+     * Sets the number of rows the driver fetches per round trip when reading the results of the wrapped query,
+     * including the DTO query it is read through. Updates ignore the fetch size.
+     *
+     * @param fetchSize the fetch size, must be greater than zero.
+     */
+    void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        switch (queryType) {
+            case QUERY:
+                ((Query) queryInstance).setBufferFetchSizeHint(fetchSize);
+                break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setBufferFetchSizeHint(fetchSize);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setBufferFetchSizeHint(fetchSize);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Makes the entities returned by the wrapped query read-only. Queries not reading entities are left unchanged.
+     */
+    void setReadOnly() {
+        if (queryType == QUERY) {
+            ((Query) queryInstance).setReadOnly(true);
+        }
+    }
+
+    /**
+     * Sets the {@link PersistenceContextScope} the wrapped query loads entities into. Queries not reading entities
+     * ignore the scope.
+     *
+     * @param scope must not be {@literal null}.
+     */
+    void setPersistenceContextScope(PersistenceContextScope scope) {
+        if (queryType == QUERY) {
+            ((Query) queryInstance).setPersistenceContextScope(scope);
+        }
+    }
+
+    /**
+     * Cancels the wrapped query. Only ORM queries can be cancelled: one not running yet is skipped and a running one
+     * stops before reading its next row. Other queries, and a statement still executing, run until they complete or
+     * reach their timeout.
+     */
+    void cancel() {
+        if (queryType == QUERY) {
+            ((Query) queryInstance).cancel();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     <E> E findOne() {
-        if (queryType == QUERY) {
-            return ((Query<E>) queryInstance).findOne();
+        switch (queryType) {
+            case QUERY:
+                if (dtoType != null) {
+                    return this.<E>asDto().findOne();
+                }
+                return scalarType != null ? ((Query<?>) queryInstance).findSingleAttribute()
+                        : ((Query<E>) queryInstance).findOne();
+            case DTO_QUERY:
+                return ((DtoQuery<E>) queryInstance).findOne();
+            case SQL_QUERY:
+                return (E) ((SqlQuery) queryInstance).findSingleAttribute(scalarType);
+            default:
+                throw new IllegalArgumentException("query not supported!");
         }
-        throw new IllegalArgumentException("query not supported!");
     }
 
     @SuppressWarnings("unchecked")
     <E> Page<E> findPage(Pageable pageable) {
-        if (queryType == QUERY) {
+        if (isEntityQuery()) {
             PagedList<E> pagedList = ((Query<E>) queryInstance)
                     .setFirstRow((int) pageable.getOffset())
                     .setMaxRows(pageable.getPageSize())
@@ -108,6 +258,12 @@ public class EbeanQueryWrapper<T> {
             return PageableExecutionUtils.getPage(pagedList.getList(), pageable, pagedList::getTotalCount);
 
         }
+        if (queryType == QUERY) {
+            Query<?> query = ((Query<?>) queryInstance)
+                    .setFirstRow((int) pageable.getOffset())
+                    .setMaxRows(pageable.getPageSize());
+            return PageableExecutionUtils.getPage(this.<E>findList(), pageable, query::findCount);
+        }
         throw new IllegalArgumentException("query not supported!");
     }
 
@@ -137,6 +293,26 @@ public class EbeanQueryWrapper<T> {
         }
     }
 
+    int count() {
+        if (queryType == QUERY) {
+            return ((Query) queryInstance).findCount();
+        }
+        throw new IllegalArgumentException("query not supported!");
+    }
+
+    /**
+     * Selects the given aggregate, e.g. {@code max(age)}, instead of the entities and returns its value.
+     *
+     * @param aggregate must not be {@literal null}.
+     * @return the aggregate value, {@literal null} if no row matches.
+     */
+    Object findAggregate(String aggregate) {
+        if (queryType == QUERY) {
+            return ((Query<?>) queryInstance).select(aggregate).findSingleAttribute();
+        }
+        throw new IllegalArgumentException("query not supported!");
+    }
+
     boolean isExists() {
         if (queryType == QUERY) {
             return ((Query) queryInstance).findCount() > 0;
@@ -146,31 +322,56 @@ public class EbeanQueryWrapper<T> {
 
     @SuppressWarnings("unchecked")
     <E> Stream<E> findStream() {
-        if (queryType == QUERY) {
+        if (isEntityQuery()) {
             return StreamUtils.createStreamFromIterator(((Query<E>) queryInstance).findIterate());
         }
-        throw new IllegalArgumentException("query not supported!");
+        throw new IllegalArgumentException("Only entities and interface projections can be streamed!");
     }
 
     @SuppressWarnings("unchecked")
     <E> List<E> findList() {
-        if (queryType == QUERY) {
-            return ((Query<E>) queryInstance).findList();
+        switch (queryType) {
+            case QUERY:
+                if (dtoType != null) {
+                    return this.<E>asDto().findList();
+                }
+                return scalarType != null ? ((Query<?>) queryInstance).findSingleAttributeList()
+                        : ((Query<E>) queryInstance).findList();
+            case DTO_QUERY:
+                return ((DtoQuery<E>) queryInstance).findList();
+            case SQL_QUERY:
+                return (List<E>) ((SqlQuery) queryInstance).findSingleAttributeList(scalarType);
+            default:
+                throw new IllegalArgumentException("query not supported!");
         }
-        throw new IllegalArgumentException("query not supported!");
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Reads the single selected column into the given {@link PrimitiveArrayBuilder}.
+     *
+     * @param builder must not be {@literal null}.
+     * @return the primitive array
+     */
+    Object findPrimitiveArray(PrimitiveArrayBuilder builder) {
+        switch (queryType) {
+            case QUERY:
+                Assert.state(scalarType != null, "Primitive arrays require a query selecting a single property!");
+                ((Query<?>) queryInstance).findSingleAttributeList().forEach(builder::add);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).findEachRow((resultSet, rowNumber) -> builder.add(resultSet.getObject(1)));
+                break;
+            default:
+                throw new IllegalArgumentException("query not supported!");
+        }
+        return builder.toArray();
+    }
+
     <E> Slice<E> findSlice(Pageable pageable) {
-        List<E> resultList = null;
         int pageSize = pageable.getPageSize();
-        int offset = (int) pageable.getOffset();
-        if (queryType == QUERY) {
-            resultList = ((Query<E>) queryInstance).setFirstRow(offset).setMaxRows(pageSize + 1).findList();
-            boolean hasNext = resultList.size() > pageSize;
-            return new SliceImpl<E>(hasNext ? resultList.subList(0, pageSize) : resultList, pageable, hasNext);
-        }
-        throw new IllegalArgumentException("query not supported!");
+        setFirstRow((int) pageable.getOffset());
+        setMaxRows(pageSize + 1);
+        return Converters.convertToSpringDataSlice(this.<E>findList(), pageable);
     }
 
     Integer getMaxRows() {
@@ -181,11 +382,19 @@ public class EbeanQueryWrapper<T> {
     }
 
     void setMaxRows(int maxRows) {
-        if (queryType == QUERY) {
-            ((Query) queryInstance).setMaxRows(maxRows);
-            return;
+        switch (queryType) {
+            case QUERY:
+                ((Query) queryInstance).setMaxRows(maxRows);
+                break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setMaxRows(maxRows);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setMaxRows(maxRows);
+                break;
+            default:
+                throw new IllegalArgumentException("query not supported!");
         }
-        throw new IllegalArgumentException("query not supported!");
     }
 
     int getFirstRow() {
@@ -196,11 +405,19 @@ public class EbeanQueryWrapper<T> {
     }
 
     void setFirstRow(int firstRow) {
-        if (queryType == QUERY) {
-            ((Query) queryInstance).setFirstRow(firstRow);
-            return;
+        switch (queryType) {
+            case QUERY:
+                ((Query) queryInstance).setFirstRow(firstRow);
+                break;
+            case DTO_QUERY:
+                ((DtoQuery) queryInstance).setFirstRow(firstRow);
+                break;
+            case SQL_QUERY:
+                ((SqlQuery) queryInstance).setFirstRow(firstRow);
+                break;
+            default:
+                throw new IllegalArgumentException("query not supported!");
         }
-        throw new IllegalArgumentException("query not supported!");
     }
 
     public QueryType getQueryType() {
@@ -223,7 +440,15 @@ public class EbeanQueryWrapper<T> {
         /**
          * SqlUpdate
          */
-        SQL_UPDATE;
+        SQL_UPDATE,
+        /**
+         * DtoQuery
+         */
+        DTO_QUERY,
+        /**
+         * SqlQuery
+         */
+        SQL_QUERY;
     }
 
 }
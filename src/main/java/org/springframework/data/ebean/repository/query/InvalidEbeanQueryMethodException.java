@@ -33,4 +33,14 @@ public class InvalidEbeanQueryMethodException extends RuntimeException {
     public InvalidEbeanQueryMethodException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new {@link InvalidEbeanQueryMethodException} with the given message and cause.
+     *
+     * @param message must not be {@literal null} or empty.
+     * @param cause   the cause, may be {@literal null}.
+     */
+    public InvalidEbeanQueryMethodException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -18,7 +18,10 @@ package org.springframework.data.ebean.repository.query;
 
 import io.ebean.EbeanServer;
 import org.springframework.data.ebean.annotation.Query;
-import org.springframework.data.repository.query.*;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 /**
@@ -54,11 +57,41 @@ final class NativeEbeanQuery extends AbstractStringBasedEbeanQuery {
         }
     }
 
+    /**
+     * Executes the query through a {@link io.ebean.DtoQuery} if the query method returns a DTO, mapping the columns
+     * straight to the DTO without building entities or a persistence context, and through a {@link io.ebean.SqlQuery}
+     * reading the single selected column if it returns scalars.
+     *
+     * @see org.springframework.data.ebean.repository.query.AbstractStringBasedEbeanQuery#doCreateQuery(java.lang.Object[])
+     */
     @Override
-    protected EbeanQueryWrapper createEbeanQuery(String queryString) {
-        ResultProcessor resultFactory = getQueryMethod().getResultProcessor();
-        ReturnedType returnedType = resultFactory.getReturnedType();
+    public EbeanQueryWrapper doCreateQuery(Object[] values) {
+        ReturnedType returnedType = getReturnedType(values);
+        if (isDtoProjection(returnedType)) {
+            EbeanQueryWrapper query = EbeanQueryWrapper.ofEbeanQuery(
+                    getEbeanServer().findDto(returnedType.getReturnedType(), getQuery().getQueryString()).setRelaxedMode());
+            return createBinder(values).bindAndPrepare(query);
+        }
+        if (isScalar(returnedType)) {
+            EbeanQueryWrapper query = EbeanQueryWrapper.ofEbeanQuery(
+                    getEbeanServer().createSqlQuery(getQuery().getQueryString()));
+            query.setScalarType(returnedType.getReturnedType());
+            return createBinder(values).bindAndPrepare(query);
+        }
+        return super.doCreateQuery(values);
+    }
 
-        return EbeanQueryWrapper.ofEbeanQuery(getEbeanServer().findNative(returnedType.getReturnedType(), queryString));
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.ebean.repository.query.AbstractStringBasedEbeanQuery#applyProjection(org.springframework.data.ebean.repository.query.EbeanQueryWrapper, java.lang.Object[])
+     */
+    @Override
+    protected EbeanQueryWrapper applyProjection(EbeanQueryWrapper query, Object[] values) {
+        return query;
+    }
+
+    @Override
+    protected EbeanQueryWrapper createEbeanQuery(String queryString) {
+        return EbeanQueryWrapper.ofEbeanQuery(getEbeanServer().findNative(getQueryEntityType(), queryString));
     }
 }
@@ -20,20 +20,30 @@ import io.ebean.EbeanServer;
 import io.ebean.ExpressionList;
 import io.ebean.Query;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.StringUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * A {@link AbstractEbeanQuery} implementation based on a {@link PartTree}.
+ * A {@link AbstractEbeanQuery} implementation based on a {@link PartTree}. Besides the prefixes supported by
+ * {@link PartTree}, method names starting with {@code sum}, {@code avg}, {@code min} or {@code max} followed by a
+ * property, e.g. {@code maxAgeByLastname}, compute that SQL aggregate over the entities matching the criteria.
  *
  * @author Xuegui Yuan
  */
 public class PartTreeEbeanQuery extends AbstractEbeanQuery {
 
+    private static final Pattern AGGREGATE_TEMPLATE = Pattern.compile("^(sum|avg|min|max)(\\p{Lu}.*?)(By\\p{Lu}.*)$");
+
     private final Class<?> domainClass;
     private final PartTree tree;
+    private final String aggregate;
     private final DefaultParameters parameters;
 
     private final QueryPreparer queryPreparer;
@@ -48,7 +58,17 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
         super(method, ebeanServer);
 
         this.domainClass = method.getEntityInformation().getJavaType();
-        this.tree = new PartTree(method.getName(), domainClass);
+
+        Matcher aggregateMatcher = AGGREGATE_TEMPLATE.matcher(method.getName());
+        if (aggregateMatcher.matches()) {
+            String property = PropertyPath.from(StringUtils.uncapitalize(aggregateMatcher.group(2)), domainClass)
+                    .toDotPath();
+            this.aggregate = aggregateMatcher.group(1) + "(" + property + ")";
+            this.tree = new PartTree("find" + aggregateMatcher.group(3), domainClass);
+        } else {
+            this.aggregate = null;
+            this.tree = new PartTree(method.getName(), domainClass);
+        }
         this.parameters = (DefaultParameters) method.getParameters();
         this.queryPreparer = new QueryPreparer(ebeanServer);
     }
@@ -59,6 +79,10 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
             return new AbstractEbeanQueryExecution.DeleteExecution(getEbeanServer());
         } else if (this.tree.isExistsProjection()) {
             return new AbstractEbeanQueryExecution.ExistsExecution();
+        } else if (this.tree.isCountProjection()) {
+            return new AbstractEbeanQueryExecution.CountExecution(getQueryMethod().getReturnType());
+        } else if (this.aggregate != null) {
+            return new AbstractEbeanQueryExecution.AggregateExecution(aggregate, getQueryMethod().getReturnType());
         }
 
         return super.getExecution();
@@ -98,7 +122,8 @@ public class PartTreeEbeanQuery extends AbstractEbeanQuery {
             return
                     restrictMaxResultsIfNecessary(
                             invokeBinding(getBinder(values),
-                                    EbeanQueryWrapper.ofEbeanQuery(ebeanQueryCreator.createQuery())));
+                                    applyProjection(EbeanQueryWrapper.ofEbeanQuery(ebeanQueryCreator.createQuery()),
+                                            values, true)));
         }
 
         protected EbeanQueryCreator createCreator(ParametersParameterAccessor accessor) {
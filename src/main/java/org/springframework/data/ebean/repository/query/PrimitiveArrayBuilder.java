@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder of a primitive array from the values of a single selected column, converting them to the component type
+ * once all of them have been read.
+ *
+ * @author Xuegui Yuan
+ */
+final class PrimitiveArrayBuilder {
+
+    private final Class<?> componentType;
+    private final List<Object> values = new ArrayList<>();
+
+    /**
+     * Creates a new {@link PrimitiveArrayBuilder} for arrays of the given component type.
+     *
+     * @param componentType must be a primitive type.
+     */
+    PrimitiveArrayBuilder(Class<?> componentType) {
+        Assert.isTrue(componentType.isPrimitive() && componentType != void.class,
+                "Component type must be a primitive type!");
+        this.componentType = componentType;
+    }
+
+    /**
+     * Appends the given column value, {@literal null} being converted to the default value of the component type.
+     *
+     * @param value the value, may be {@literal null}.
+     */
+    void add(Object value) {
+        values.add(value);
+    }
+
+    /**
+     * Returns the values appended so far as an array of the component type.
+     *
+     * @return the primitive array
+     */
+    Object toArray() {
+        Object array = Array.newInstance(componentType, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                Array.set(array, i, convert(value));
+            }
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(Object value) {
+        if (componentType == boolean.class) {
+            return value instanceof Number ? ((Number) value).intValue() != 0 : value;
+        } else if (componentType == char.class) {
+            return value instanceof String ? ((String) value).charAt(0) : value;
+        }
+        return NumberUtils.convertNumberToTargetClass((Number) value,
+                (Class<Number>) ClassUtils.resolvePrimitiveIfNecessary(componentType));
+    }
+}
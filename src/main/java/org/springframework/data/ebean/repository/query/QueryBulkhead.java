@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead limiting the number of concurrently executing repository queries, so that one repository or query method
+ * can not exhaust the connection pool shared with the others. Exposes the number of active, queued and rejected
+ * calls.
+ *
+ * @author Xuegui Yuan
+ */
+public class QueryBulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long queueTimeout;
+    private final Semaphore permits;
+    private final AtomicInteger queuedCalls = new AtomicInteger();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * Creates a new {@link QueryBulkhead}.
+     *
+     * @param name               must not be {@literal null}.
+     * @param maxConcurrentCalls the maximum number of concurrent calls, must be greater than zero.
+     * @param queueTimeout       the maximum time in milliseconds a call waits for a permit, must not be negative.
+     */
+    public QueryBulkhead(String name, int maxConcurrentCalls, long queueTimeout) {
+        Assert.notNull(name, "Name must not be null!");
+        Assert.isTrue(maxConcurrentCalls > 0, "Maximum concurrent calls must be greater than zero!");
+        Assert.isTrue(queueTimeout >= 0, "Queue timeout must not be negative!");
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.queueTimeout = queueTimeout;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * Acquires a permit, waiting up to the queue timeout if all permits are taken.
+     *
+     * @throws TransientDataAccessResourceException if no permit became available in time.
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        boolean acquired = false;
+        queuedCalls.incrementAndGet();
+        try {
+            acquired = queueTimeout > 0 && permits.tryAcquire(queueTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queuedCalls.decrementAndGet();
+        }
+        if (!acquired) {
+            rejectedCalls.increment();
+            throw new TransientDataAccessResourceException(String.format(
+                    "Query bulkhead %s rejected the call, all of its %s permits are in use!", name, maxConcurrentCalls));
+        }
+    }
+
+    /**
+     * Releases a permit acquired through {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    /**
+     * Returns the number of calls currently executing.
+     *
+     * @return
+     */
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls currently waiting for a permit.
+     *
+     * @return
+     */
+    public int getQueuedCalls() {
+        return queuedCalls.get();
+    }
+
+    /**
+     * Returns the total number of rejected calls.
+     *
+     * @return
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QueryBulkhead %s: %s active, %s queued, %s rejected", name, getActiveCalls(),
+                getQueuedCalls(), getRejectedCalls());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.ebean.annotation.ConcurrencyLimit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@link QueryBulkhead}s of one repository: an optional bulkhead shared by all its query methods and one bulkhead
+ * per query method annotated with {@link ConcurrencyLimit}.
+ *
+ * @author Xuegui Yuan
+ */
+public class QueryBulkheads {
+
+    private final QueryBulkhead repositoryBulkhead;
+    private final List<QueryBulkhead> bulkheads = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the {@link QueryBulkheads} of the given repository interface, sharing one bulkhead between its query
+     * methods if the interface is annotated with {@link ConcurrencyLimit} or the given limit is greater than zero.
+     *
+     * @param repositoryInterface must not be {@literal null}.
+     * @param maxConcurrentCalls  the default limit of the repository, {@literal 0} for none.
+     * @param queueTimeout        the default queue timeout of the repository in milliseconds.
+     */
+    public QueryBulkheads(Class<?> repositoryInterface, int maxConcurrentCalls, long queueTimeout) {
+        ConcurrencyLimit limit = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, ConcurrencyLimit.class);
+        if (limit != null) {
+            this.repositoryBulkhead = new QueryBulkhead(repositoryInterface.getSimpleName(), limit.value(),
+                    limit.queueTimeout());
+        } else if (maxConcurrentCalls > 0) {
+            this.repositoryBulkhead = new QueryBulkhead(repositoryInterface.getSimpleName(), maxConcurrentCalls,
+                    queueTimeout);
+        } else {
+            this.repositoryBulkhead = null;
+        }
+        if (repositoryBulkhead != null) {
+            bulkheads.add(repositoryBulkhead);
+        }
+    }
+
+    /**
+     * Returns the bulkhead limiting the given query method, {@literal null} if it is not limited.
+     *
+     * @param method must not be {@literal null}.
+     * @return
+     */
+    QueryBulkhead forMethod(EbeanQueryMethod method) {
+        ConcurrencyLimit limit = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), ConcurrencyLimit.class);
+        if (limit == null) {
+            return repositoryBulkhead;
+        }
+        QueryBulkhead bulkhead = new QueryBulkhead(
+                method.getMethod().getDeclaringClass().getSimpleName() + "." + method.getName(), limit.value(),
+                limit.queueTimeout());
+        bulkheads.add(bulkhead);
+        return bulkhead;
+    }
+
+    /**
+     * Returns the bulkheads created so far, for monitoring.
+     *
+     * @return
+     */
+    public List<QueryBulkhead> getBulkheads() {
+        return Collections.unmodifiableList(bulkheads);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.query;
+
+/**
+ * Cancellation handle of an asynchronously executed query method. It is bound to the thread executing the query
+ * method, the queries created meanwhile register with it so that cancelling the handle cancels them.
+ *
+ * @author Xuegui Yuan
+ */
+final class QueryCancellation {
+
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean cancelled;
+    private volatile EbeanQueryWrapper query;
+
+    /**
+     * Registers the given query with the cancellation handle bound to the current thread, if any. A query registered
+     * after the handle was cancelled is cancelled right away.
+     *
+     * @param query must not be {@literal null}.
+     */
+    static void register(EbeanQueryWrapper query) {
+        QueryCancellation cancellation = CURRENT.get();
+        if (cancellation != null) {
+            cancellation.query = query;
+            if (cancellation.cancelled) {
+                query.cancel();
+            }
+        }
+    }
+
+    /**
+     * Binds this handle to the current thread.
+     */
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * Unbinds this handle from the current thread.
+     */
+    void unbind() {
+        CURRENT.remove();
+        query = null;
+    }
+
+    /**
+     * Returns whether the handle was cancelled.
+     *
+     * @return
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels the query running or about to run. A statement still executing is waited for, the query then stopping
+     * before its next row is read.
+     */
+    void cancel() {
+        cancelled = true;
+        EbeanQueryWrapper running = query;
+        if (running != null) {
+            running.cancel();
+        }
+    }
+}
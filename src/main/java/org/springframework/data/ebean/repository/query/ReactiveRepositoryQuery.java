@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link RepositoryQuery} executing the query of a method returning a {@link Flux} or a {@link Mono} on the given
+ * {@link Scheduler} when subscribed to, so that the subscribing thread never blocks on JDBC. The scheduler should be
+ * bounded to the size of the connection pool.
+ * <p>
+ * {@link Flux} query methods are executed as {@link Stream} query methods, their rows being read one by one as they
+ * are requested. Cancelling the subscription stops the query before its next row is read and closes the stream.
+ *
+ * @author Xuegui Yuan
+ */
+final class ReactiveRepositoryQuery implements RepositoryQuery {
+
+    private final EbeanQueryMethod method;
+    private final RepositoryQuery query;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates a new {@link ReactiveRepositoryQuery}.
+     *
+     * @param method    must not be {@literal null}.
+     * @param query     must not be {@literal null}.
+     * @param scheduler must not be {@literal null}.
+     */
+    ReactiveRepositoryQuery(EbeanQueryMethod method, RepositoryQuery query, Scheduler scheduler) {
+        Assert.notNull(method, "EbeanQueryMethod must not be null!");
+        Assert.notNull(query, "RepositoryQuery must not be null!");
+        Assert.notNull(scheduler, "Scheduler must not be null!");
+        this.method = method;
+        this.query = query;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns whether the given method returns a {@link Flux} or a {@link Mono}.
+     *
+     * @param method must not be {@literal null}.
+     * @return
+     */
+    static boolean isReactive(EbeanQueryMethod method) {
+        return Flux.class.equals(method.getReturnType()) || Mono.class.equals(method.getReturnType());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object execute(Object[] parameters) {
+        if (method.isFluxQuery()) {
+            return Flux.defer(() -> {
+                QueryCancellation cancellation = new QueryCancellation();
+                return Flux.using(() -> (Stream<Object>) execute(cancellation, parameters), Flux::fromStream,
+                        Stream::close).doOnCancel(cancellation::cancel);
+            }).subscribeOn(scheduler);
+        }
+        return Mono.defer(() -> {
+            QueryCancellation cancellation = new QueryCancellation();
+            return Mono.fromCallable(() -> {
+                Object result = execute(cancellation, parameters);
+                return result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+            }).doOnCancel(cancellation::cancel);
+        }).subscribeOn(scheduler);
+    }
+
+    private Object execute(QueryCancellation cancellation, Object[] parameters) {
+        cancellation.bind();
+        try {
+            return query.execute(parameters);
+        } finally {
+            cancellation.unbind();
+        }
+    }
+
+    @Override
+    public EbeanQueryMethod getQueryMethod() {
+        return method;
+    }
+}
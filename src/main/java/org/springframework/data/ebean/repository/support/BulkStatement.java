@@ -0,0 +1,423 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.CacheMode;
+import io.ebean.EbeanServer;
+import io.ebean.PersistenceContextScope;
+import io.ebean.SqlUpdate;
+import io.ebean.annotation.Platform;
+import io.ebean.bean.EntityBean;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanProperty;
+import io.ebeaninternal.server.deploy.BeanPropertyAssocOne;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Statement writing the rows of many entities of one type through JDBC batches, generated once from the
+ * {@link BeanDescriptor} of the entity type. Entities are bound directly, bypassing the persist pipeline of Ebean
+ * (persist controllers and listeners, cascades and the persistence context).
+ * <p>
+ * Generated properties ({@code @WhenCreated}, {@code @WhoCreated}, {@code @Version}, ...) are evaluated once per
+ * {@link #bind(SqlUpdate, Iterable, int)} call and shared by all its entities.
+ *
+ * @param <T> the type of the entity
+ * @author Xuegui Yuan
+ */
+final class BulkStatement<T> {
+
+    private final EbeanServer ebeanServer;
+    private final BeanDescriptor<T> descriptor;
+    private final boolean upsert;
+    private final boolean includeId;
+    private final String sql;
+    private final List<Column> columns;
+    private final List<Integer> binds = new ArrayList<>();
+
+    private BulkStatement(EbeanServer ebeanServer, Class<T> entityType, boolean upsert, boolean includeId) {
+        this.ebeanServer = ebeanServer;
+        this.descriptor = ((SpiEbeanServer) ebeanServer).getBeanDescriptor(entityType);
+        Assert.notNull(descriptor, String.format("%s is not an entity type!", entityType.getName()));
+        this.upsert = upsert;
+        this.includeId = includeId;
+
+        BeanProperty idProperty = descriptor.getIdProperty();
+        if (idProperty == null || idProperty.isEmbedded()) {
+            throw new UnsupportedOperationException(
+                    String.format("Bulk statements require a single id column, %s has none!", entityType.getName()));
+        }
+        Column id = new Column(idProperty, null, false);
+        this.columns = columns(includeId ? id : null);
+        if (!upsert) {
+            this.sql = insert();
+            return;
+        }
+        Platform platform = ((SpiEbeanServer) ebeanServer).getDatabasePlatform().getPlatform();
+        switch (platform) {
+            case H2:
+                this.sql = h2Merge(id);
+                break;
+            case POSTGRES:
+            case COCKROACH:
+                this.sql = insert() + String.format(" on conflict (%s) do update set %s", id.name(),
+                        updates("%1$s = excluded.%1$s", "%1$s = " + descriptor.getBaseTable() + ".%1$s + 1"));
+                break;
+            case MYSQL:
+                this.sql = insert() + " on duplicate key update "
+                        + updates("%1$s = values(%1$s)", "%1$s = %1$s + 1");
+                break;
+            default:
+                throw new UnsupportedOperationException(String.format("Upsert is not supported on %s!", platform));
+        }
+    }
+
+    /**
+     * Creates the platform specific statement inserting an entity or updating the row with the same id: H2
+     * {@code MERGE ... KEY}, Postgres and CockroachDB {@code INSERT ... ON CONFLICT}, MySQL
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE}. Columns only generated on insert keep their stored value and the
+     * version column is incremented when the row already exists.
+     *
+     * @param ebeanServer must not be {@literal null}.
+     * @param entityType  must not be {@literal null}.
+     * @param <T>         the type of the entity
+     * @return the statement
+     * @throws UnsupportedOperationException if the platform or the id of the entity type is not supported.
+     */
+    static <T> BulkStatement<T> upsert(EbeanServer ebeanServer, Class<T> entityType) {
+        return new BulkStatement<>(ebeanServer, entityType, true, true);
+    }
+
+    /**
+     * Creates the statement inserting an entity.
+     *
+     * @param ebeanServer must not be {@literal null}.
+     * @param entityType  must not be {@literal null}.
+     * @param includeId   whether the id is bound or left to be generated by the database.
+     * @param <T>         the type of the entity
+     * @return the statement
+     * @throws UnsupportedOperationException if the id of the entity type is not supported.
+     */
+    static <T> BulkStatement<T> insert(EbeanServer ebeanServer, Class<T> entityType, boolean includeId) {
+        return new BulkStatement<>(ebeanServer, entityType, false, includeId);
+    }
+
+    /**
+     * Returns the SQL of the statement.
+     *
+     * @return the SQL
+     */
+    String getSql() {
+        return sql;
+    }
+
+    /**
+     * Returns the base table the statement writes to.
+     *
+     * @return the table name
+     */
+    String getTable() {
+        return descriptor.getBaseTable();
+    }
+
+    /**
+     * Returns whether the given entity has its id set, drawing it up front from the sequence or generator of the
+     * entity type if it has none. Only ids generated by an identity column are left unset.
+     *
+     * @param entity must not be {@literal null}.
+     * @return whether the id is set
+     */
+    boolean assignId(T entity) {
+        EntityBean bean = (EntityBean) entity;
+        if (descriptor.getId(bean) == null && descriptor.isUseIdGenerator()) {
+            descriptor.convertSetId(descriptor.nextId(ebeanServer.currentTransaction()), bean);
+        }
+        return descriptor.getId(bean) != null;
+    }
+
+    /**
+     * Add the given entities to the batch of the given {@link SqlUpdate}, executing the batch every
+     * {@code batchSize} entities and once more at the end. The generated properties of the entities are set, except
+     * for upserts, which only set those also generated on update: whether a row was inserted or updated is only
+     * known to the database, and with it the insert-only values and the version. Once their batch is executed the
+     * entities with an id are marked as loaded, so that saving them afterwards updates their row. The versions of
+     * upserted entities are read back from the database.
+     *
+     * @param update    must not be {@literal null}.
+     * @param entities  must not be {@literal null}, must have their id set if it is included.
+     * @param batchSize the JDBC batch size, must be greater than zero.
+     * @return the number of entities written
+     */
+    int bind(SqlUpdate update, Iterable<? extends T> entities, int batchSize) {
+        Object[] generated = null;
+        int count = 0;
+        List<EntityBean> batched = new ArrayList<>();
+        for (T entity : entities) {
+            EntityBean bean = (EntityBean) entity;
+            Assert.isTrue(!includeId || descriptor.getId(bean) != null, "The given entity must have its id set!");
+            if (generated == null) {
+                generated = generatedValues(bean);
+            }
+            bindRow(update, bean, generated);
+            update.addBatch();
+            count++;
+            batched.add(bean);
+            if (batched.size() == batchSize) {
+                executeBatch(update, batched);
+            }
+        }
+        if (!batched.isEmpty()) {
+            executeBatch(update, batched);
+        }
+        return count;
+    }
+
+    /**
+     * Execute the statement once per given entity, setting the id generated by the identity column of the database
+     * on the entity. Used instead of {@link #bind(SqlUpdate, Iterable, int)} when the generated ids are needed, as
+     * JDBC batches do not reliably return them.
+     *
+     * @param entities must not be {@literal null}, must not have their id set.
+     * @return the number of entities written
+     */
+    int insertEach(Iterable<? extends T> entities) {
+        Assert.isTrue(!includeId && !upsert, "Only inserts leaving the id to the database return generated ids!");
+        Object[] generated = null;
+        int count = 0;
+        for (T entity : entities) {
+            EntityBean bean = (EntityBean) entity;
+            if (generated == null) {
+                generated = generatedValues(bean);
+            }
+            SqlUpdate update = ebeanServer.createSqlUpdate(sql).setGetGeneratedKeys(true);
+            bindRow(update, bean, generated);
+            update.execute();
+            descriptor.convertSetId(update.getGeneratedKey(), bean);
+            bean._ebean_getIntercept().setLoaded();
+            bean._ebean_getIntercept().setLoadedPropertyAll();
+            count++;
+        }
+        return count;
+    }
+
+    private void bindRow(SqlUpdate update, EntityBean bean, Object[] generated) {
+        int position = 0;
+        for (int index : binds) {
+            columns.get(index).bind(update, ++position, bean, generated[index], upsert);
+        }
+    }
+
+    private void executeBatch(SqlUpdate update, List<EntityBean> batched) {
+        update.executeBatch();
+        if (upsert && descriptor.getVersionProperty() != null) {
+            loadVersions(batched);
+        }
+        for (EntityBean bean : batched) {
+            // entities whose generated id is not fetched can not be updated, they stay new
+            if (descriptor.getId(bean) != null) {
+                bean._ebean_getIntercept().setLoaded();
+                bean._ebean_getIntercept().setLoadedPropertyAll();
+            }
+        }
+        batched.clear();
+    }
+
+    /**
+     * Only the database knows whether an upsert inserted or updated a row, so the versions are read back.
+     */
+    private void loadVersions(List<EntityBean> batched) {
+        BeanProperty version = descriptor.getVersionProperty();
+        Map<Object, EntityBean> beans = new HashMap<>();
+        for (EntityBean bean : batched) {
+            beans.put(descriptor.getId(bean), bean);
+        }
+        List<T> rows = ebeanServer.find(descriptor.getBeanType())
+                .select(version.getName())
+                .setBeanCacheMode(CacheMode.OFF)
+                .setPersistenceContextScope(PersistenceContextScope.QUERY)
+                .where().idIn(new ArrayList<>(beans.keySet()))
+                .findList();
+        for (T row : rows) {
+            EntityBean bean = beans.get(descriptor.getId((EntityBean) row));
+            version.setValue(bean, version.getValue((EntityBean) row));
+        }
+    }
+
+    private Object[] generatedValues(EntityBean bean) {
+        long now = System.currentTimeMillis();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).generatedValue(bean, now);
+        }
+        return values;
+    }
+
+    private List<Column> columns(Column id) {
+        List<Column> columns = new ArrayList<>();
+        if (id != null) {
+            columns.add(id);
+        }
+        for (BeanProperty property : descriptor.propertiesBaseScalar()) {
+            if (isWritable(property) && !property.isId()) {
+                columns.add(new Column(property, null, false));
+            }
+        }
+        BeanProperty version = descriptor.getVersionProperty();
+        if (version != null && isWritable(version) && columns.stream().noneMatch(c -> c.property == version)) {
+            columns.add(new Column(version, null, false));
+        }
+        for (BeanPropertyAssocOne<?> embedded : descriptor.propertiesEmbedded()) {
+            for (BeanProperty property : embedded.getProperties()) {
+                if (isWritable(property)) {
+                    columns.add(new Column(property, embedded, false));
+                }
+            }
+        }
+        for (BeanPropertyAssocOne<?> imported : descriptor.propertiesOneImported()) {
+            if (!imported.getImportedId().isScalar()) {
+                throw new UnsupportedOperationException(String.format(
+                        "Bulk statements do not support the composite foreign key %s!", imported.getFullBeanName()));
+            }
+            columns.add(new Column(imported.getTargetDescriptor().getIdProperty(), imported, true));
+        }
+        return columns;
+    }
+
+    private static boolean isWritable(BeanProperty property) {
+        return property.isDbInsertable() && !property.isTransient() && !property.isFormula()
+                && !property.isSecondaryTable();
+    }
+
+    /**
+     * H2 replaces the whole row, so insert-only and version columns read their current value in a sub-query.
+     */
+    private String h2Merge(Column id) {
+        String table = descriptor.getBaseTable();
+        StringJoiner names = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            names.add(column.name());
+            if (column.isInsertOnly() || column.isVersion()) {
+                String current = column.isVersion() ? "x." + column.name() + " + 1" : "x." + column.name();
+                values.add(String.format("coalesce((select %s from %s x where x.%s = ?), ?)", current, table, id.name()));
+                binds.add(columns.indexOf(id));
+            } else {
+                values.add("?");
+            }
+            binds.add(i);
+        }
+        return String.format("merge into %s (%s) key (%s) values (%s)", table, names, id.name(), values);
+    }
+
+    private String insert() {
+        StringJoiner names = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < columns.size(); i++) {
+            names.add(columns.get(i).name());
+            values.add("?");
+            binds.add(i);
+        }
+        return String.format("insert into %s (%s) values (%s)", descriptor.getBaseTable(), names, values);
+    }
+
+    private String updates(String updateFormat, String versionFormat) {
+        StringJoiner updates = new StringJoiner(", ");
+        for (Column column : columns) {
+            if (column.isVersion()) {
+                updates.add(String.format(versionFormat, column.name()));
+            } else if (!column.isId() && !column.isInsertOnly()) {
+                updates.add(String.format(updateFormat, column.name()));
+            }
+        }
+        return updates.toString();
+    }
+
+    /**
+     * A column of the statement, mapped to a property of the entity, of one of its embedded beans or to the id of an
+     * imported association.
+     */
+    private static final class Column {
+
+        private final BeanProperty property;
+        private final BeanPropertyAssocOne<?> owner;
+        private final boolean foreignKey;
+
+        Column(BeanProperty property, BeanPropertyAssocOne<?> owner, boolean foreignKey) {
+            this.property = property;
+            this.owner = owner;
+            this.foreignKey = foreignKey;
+        }
+
+        String name() {
+            return foreignKey ? owner.getImportedId().getDbColumn() : property.getDbColumn();
+        }
+
+        boolean isId() {
+            return !foreignKey && owner == null && property.isId();
+        }
+
+        boolean isVersion() {
+            return !foreignKey && property.isVersion();
+        }
+
+        boolean isGenerated() {
+            return !foreignKey && property.getGeneratedProperty() != null;
+        }
+
+        boolean isInsertOnly() {
+            return isGenerated() && !property.getGeneratedProperty().includeInUpdate();
+        }
+
+        Object generatedValue(EntityBean entity, long now) {
+            return isGenerated() ? property.getGeneratedProperty().getInsertValue(property, entity, now) : null;
+        }
+
+        void bind(SqlUpdate update, int position, EntityBean entity, Object generatedValue, boolean upsert) {
+            Object value = value(entity, generatedValue, upsert);
+            if (value == null) {
+                update.setNull(position, property.getScalarType().getJdbcType());
+            } else {
+                update.setParameter(position, property.getScalarType().toJdbcType(value));
+            }
+        }
+
+        private Object value(EntityBean entity, Object generatedValue, boolean upsert) {
+            EntityBean bean = entity;
+            if (owner != null) {
+                bean = (EntityBean) owner.getValue(entity);
+                if (bean == null) {
+                    return null;
+                }
+            }
+            if (isGenerated()) {
+                if (!upsert || !(isVersion() || isInsertOnly())) {
+                    // the stored insert-only values and version of an existing row are only known to the database
+                    property.setValue(bean, generatedValue);
+                }
+                return generatedValue;
+            }
+            return property.getValue(bean);
+        }
+    }
+}
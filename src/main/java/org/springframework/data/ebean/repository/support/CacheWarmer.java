@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.ebean.annotation.WarmUp;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link WarmUp} queries of all repositories in parallel once all singletons have been instantiated, so that
+ * the second level caches are loaded before the application context reports it is refreshed. Queries still running
+ * when the deadline passes are abandoned, failed and abandoned queries only being logged.
+ *
+ * @author Xuegui Yuan
+ */
+public class CacheWarmer implements SmartInitializingSingleton, BeanFactoryAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private ListableBeanFactory beanFactory;
+
+    private long warmUpTimeout = 60000;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        Assert.isInstanceOf(ListableBeanFactory.class, beanFactory);
+        this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    /**
+     * Configures the time in milliseconds after which the remaining warm-up queries are abandoned. Defaults to one
+     * minute.
+     *
+     * @param warmUpTimeout must be greater than zero.
+     */
+    public void setWarmUpTimeout(long warmUpTimeout) {
+        Assert.isTrue(warmUpTimeout > 0, "Warm-up timeout must be greater than zero!");
+        this.warmUpTimeout = warmUpTimeout;
+    }
+
+    /**
+     * Configures the maximum number of warm-up queries running at the same time. Defaults to the number of processors.
+     *
+     * @param parallelism must be greater than zero.
+     */
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void afterSingletonsInstantiated() {
+        List<Callable<Object>> queries = new ArrayList<>();
+        for (EbeanRepositoryFactoryBean factoryBean : beanFactory
+                .getBeansOfType(EbeanRepositoryFactoryBean.class, false, false).values()) {
+            queries.addAll(factoryBean.getWarmUpQueries());
+        }
+        warmUp(queries);
+    }
+
+    /**
+     * Runs the given warm-up queries in parallel, waiting for them until the deadline passes.
+     *
+     * @param queries must not be {@literal null}.
+     */
+    void warmUp(List<Callable<Object>> queries) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, queries.size()),
+                warmUpThreadFactory());
+        try {
+            List<Future<Object>> results = executor.invokeAll(queries, warmUpTimeout, TimeUnit.MILLISECONDS);
+            int failures = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (CancellationException e) {
+                    failures++;
+                    LOG.warn("Abandoned cache warm-up {} after {} ms", queries.get(i), warmUpTimeout);
+                } catch (ExecutionException e) {
+                    failures++;
+                    LOG.warn("Failed cache warm-up {}", queries.get(i), e.getCause());
+                }
+            }
+            LOG.info("Warmed up caches with {} of {} queries in {} ms", queries.size() - failures, queries.size(),
+                    System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CustomizableThreadFactory warmUpThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ebean-cache-warm-up-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
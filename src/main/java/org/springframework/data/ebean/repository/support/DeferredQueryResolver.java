@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.ebean.repository.query.DeferredRepositoryQuery;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Resolves the query methods of all repositories configured with {@link QueryResolution#PARALLEL} in parallel on the
+ * fork-join pool once all singletons have been instantiated, failing the startup if any of them is invalid.
+ *
+ * @author Xuegui Yuan
+ */
+public class DeferredQueryResolver implements SmartInitializingSingleton, BeanFactoryAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeferredQueryResolver.class);
+
+    private ListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        Assert.isInstanceOf(ListableBeanFactory.class, beanFactory);
+        this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void afterSingletonsInstantiated() {
+        List<DeferredRepositoryQuery> queries = new ArrayList<>();
+        for (EbeanRepositoryFactoryBean factoryBean : beanFactory
+                .getBeansOfType(EbeanRepositoryFactoryBean.class, false, false).values()) {
+            List<DeferredRepositoryQuery> deferredQueries = factoryBean.getDeferredQueries();
+            queries.addAll(deferredQueries);
+            deferredQueries.clear();
+        }
+        resolve(queries);
+    }
+
+    /**
+     * Resolves the given queries in parallel.
+     *
+     * @param queries must not be {@literal null}.
+     * @throws IllegalStateException if any of the queries could not be resolved.
+     */
+    static void resolve(List<DeferredRepositoryQuery> queries) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        queries.parallelStream().forEach(query -> {
+            try {
+                query.resolve();
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        });
+        LOG.debug("Resolved {} repository query methods in {} ms", queries.size(), System.currentTimeMillis() - start);
+
+        if (!failures.isEmpty()) {
+            Iterator<RuntimeException> iterator = failures.iterator();
+            IllegalStateException exception = new IllegalStateException(
+                    String.format("Could not resolve %s repository query methods!", failures.size()), iterator.next());
+            iterator.forEachRemaining(exception::addSuppressed);
+            throw exception;
+        }
+    }
+}
@@ -17,9 +17,14 @@
 package org.springframework.data.ebean.repository.support;
 
 import io.ebean.EbeanServer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.ebean.cache.CacheInvalidationBroadcaster;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.repository.ReactiveEbeanRepository;
+import org.springframework.data.ebean.repository.query.DefaultQueryHints;
 import org.springframework.data.ebean.repository.query.EbeanQueryLookupStrategy;
+import org.springframework.data.ebean.repository.query.QueryBulkheads;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -27,9 +32,12 @@ import org.springframework.data.repository.core.support.RepositoryFactorySupport
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Ebean specific generic repository factory.
@@ -38,8 +46,31 @@ import java.util.Optional;
  */
 public class EbeanRepositoryFactory extends RepositoryFactorySupport {
 
+    private static final boolean PROJECT_REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+            EbeanRepositoryFactory.class.getClassLoader());
+
     private final EbeanServer ebeanServer;
 
+    private ApplicationEventPublisher eventPublisher;
+
+    private QueryResolution queryResolution = QueryResolution.EAGER;
+
+    private boolean validateQueries;
+
+    private Integer deleteChunkSize;
+
+    private Long deleteChunkPause;
+
+    private Executor queryExecutor;
+
+    private Scheduler reactiveScheduler;
+
+    private QueryBulkheads queryBulkheads;
+
+    private DefaultQueryHints defaultQueryHints = DefaultQueryHints.NONE;
+
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
     /**
      * Creates a new {@link EbeanRepositoryFactory}.
      *
@@ -59,6 +90,111 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
         super.setBeanClassLoader(classLoader);
     }
 
+    /**
+     * Set the {@link ApplicationEventPublisher} handed to created repositories for publishing the domain events of
+     * bulk operations.
+     *
+     * @param eventPublisher the event publisher, may be {@literal null}.
+     */
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Set when the query methods of created repositories are resolved. Defaults to {@link QueryResolution#EAGER}.
+     *
+     * @param queryResolution must not be {@literal null}.
+     */
+    public void setQueryResolution(QueryResolution queryResolution) {
+        Assert.notNull(queryResolution, "QueryResolution must not be null!");
+        this.queryResolution = queryResolution;
+    }
+
+    /**
+     * Set whether the declared queries of created repositories are validated against the {@link EbeanServer} when
+     * their query methods are resolved. Defaults to {@literal false}.
+     *
+     * @param validateQueries
+     */
+    public void setValidateQueries(boolean validateQueries) {
+        this.validateQueries = validateQueries;
+    }
+
+    /**
+     * Set the number of ids deleted by each statement of the chunked delete operations of created repositories.
+     *
+     * @param deleteChunkSize the chunk size, must be greater than zero.
+     * @see SimpleEbeanRepository#setDeleteChunkSize(int)
+     */
+    public void setDeleteChunkSize(int deleteChunkSize) {
+        Assert.isTrue(deleteChunkSize > 0, "Delete chunk size must be greater than zero!");
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Set the pause in milliseconds between two chunks of the chunked delete operations of created repositories.
+     *
+     * @param deleteChunkPause the pause in milliseconds, must not be negative.
+     * @see SimpleEbeanRepository#setDeleteChunkPause(long)
+     */
+    public void setDeleteChunkPause(long deleteChunkPause) {
+        Assert.isTrue(deleteChunkPause >= 0, "Delete chunk pause must not be negative!");
+        this.deleteChunkPause = deleteChunkPause;
+    }
+
+    /**
+     * Set the {@link Executor} running the query methods of created repositories that return a
+     * {@link java.util.concurrent.CompletableFuture}. It should be bounded to the size of the connection pool. If not
+     * set, such query methods run on the calling thread.
+     *
+     * @param queryExecutor the executor, may be {@literal null}.
+     */
+    public void setQueryExecutor(Executor queryExecutor) {
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * Set the {@link Scheduler} running the operations of created {@link ReactiveEbeanRepository}s and their query
+     * methods returning a {@link reactor.core.publisher.Flux} or a {@link reactor.core.publisher.Mono}. It should be
+     * bounded to the size of the connection pool, and is required to create reactive repositories.
+     *
+     * @param reactiveScheduler the scheduler, may be {@literal null}.
+     */
+    public void setReactiveScheduler(Scheduler reactiveScheduler) {
+        this.reactiveScheduler = reactiveScheduler;
+    }
+
+    /**
+     * Set the {@link QueryBulkheads} limiting the concurrent queries of created repositories.
+     *
+     * @param queryBulkheads the bulkheads, may be {@literal null}.
+     */
+    public void setQueryBulkheads(QueryBulkheads queryBulkheads) {
+        this.queryBulkheads = queryBulkheads;
+    }
+
+    /**
+     * Set the {@link DefaultQueryHints} applied to the query methods of created repositories that do not declare
+     * their own through {@link org.springframework.data.ebean.annotation.QueryHints}.
+     *
+     * @param defaultQueryHints must not be {@literal null}.
+     */
+    public void setDefaultQueryHints(DefaultQueryHints defaultQueryHints) {
+        Assert.notNull(defaultQueryHints, "DefaultQueryHints must not be null!");
+        this.defaultQueryHints = defaultQueryHints;
+    }
+
+    /**
+     * Set the {@link CacheInvalidationBroadcaster} notifying the peer nodes of the entities written by created
+     * repositories.
+     *
+     * @param cacheInvalidationBroadcaster the broadcaster, may be {@literal null}.
+     * @see SimpleEbeanRepository#setCacheInvalidationBroadcaster(CacheInvalidationBroadcaster)
+     */
+    public void setCacheInvalidationBroadcaster(CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
@@ -71,6 +207,13 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
      */
     @Override
     protected Object getTargetRepository(RepositoryInformation information) {
+        if (isReactiveRepository(information)) {
+            Assert.state(reactiveScheduler != null,
+                    "A reactive scheduler is required to create reactive Ebean repositories!");
+            SimpleEbeanRepository<?, ?> repository = configure(
+                    new SimpleEbeanRepository<>(information.getDomainType(), ebeanServer));
+            return getTargetRepositoryViaReflection(information, repository, reactiveScheduler);
+        }
         return getTargetRepository(information, ebeanServer);
     }
 
@@ -85,7 +228,19 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
     protected <T extends Persistable, ID extends Serializable> SimpleEbeanRepository<T, ID> getTargetRepository(
             RepositoryInformation information, EbeanServer ebeanServer) {
 
-        return getTargetRepositoryViaReflection(information, information.getDomainType(), ebeanServer);
+        return configure(getTargetRepositoryViaReflection(information, information.getDomainType(), ebeanServer));
+    }
+
+    private <R extends SimpleEbeanRepository<?, ?>> R configure(R repository) {
+        repository.setEventPublisher(eventPublisher);
+        repository.setCacheInvalidationBroadcaster(cacheInvalidationBroadcaster);
+        if (deleteChunkSize != null) {
+            repository.setDeleteChunkSize(deleteChunkSize);
+        }
+        if (deleteChunkPause != null) {
+            repository.setDeleteChunkPause(deleteChunkPause);
+        }
+        return repository;
     }
 
     /*
@@ -94,7 +249,7 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
      */
     @Override
     protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
-        return SimpleEbeanRepository.class;
+        return isReactiveRepository(metadata) ? SimpleReactiveEbeanRepository.class : SimpleEbeanRepository.class;
     }
 
     /*
@@ -104,7 +259,21 @@ public class EbeanRepositoryFactory extends RepositoryFactorySupport {
     @Override
     protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
                                                                    QueryMethodEvaluationContextProvider evaluationContextProvider) {
-        return Optional.ofNullable(EbeanQueryLookupStrategy.create(ebeanServer, key, evaluationContextProvider));
+        return Optional.ofNullable(EbeanQueryLookupStrategy.create(ebeanServer, key, evaluationContextProvider,
+                queryResolution != QueryResolution.EAGER, validateQueries, queryExecutor, reactiveScheduler,
+                queryBulkheads, cacheInvalidationBroadcaster, defaultQueryHints));
+    }
+
+    /**
+     * Returns whether the given repository is a {@link ReactiveEbeanRepository}, Project Reactor being on the
+     * classpath.
+     *
+     * @param metadata
+     * @return
+     */
+    private static boolean isReactiveRepository(RepositoryMetadata metadata) {
+        return PROJECT_REACTOR_PRESENT
+                && ReactiveEbeanRepository.class.isAssignableFrom(metadata.getRepositoryInterface());
     }
 
     /**
@@ -17,12 +17,27 @@
 package org.springframework.data.ebean.repository.support;
 
 import io.ebean.EbeanServer;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.ebean.cache.CacheInvalidationBroadcaster;
+import org.springframework.data.ebean.repository.query.DefaultQueryHints;
+import org.springframework.data.ebean.repository.query.DeferredRepositoryQuery;
+import org.springframework.data.ebean.repository.query.QueryBulkheads;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.QueryCreationListener;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.data.repository.util.ReactiveWrappers;
 import org.springframework.util.Assert;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -38,6 +53,38 @@ public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
     @Autowired
     private EbeanServer ebeanServer;
 
+    private ApplicationEventPublisher eventPublisher;
+
+    private QueryResolution queryResolution = QueryResolution.EAGER;
+
+    private boolean validateQueries;
+
+    private Integer deleteChunkSize;
+
+    private Long deleteChunkPause;
+
+    private Executor queryExecutor;
+
+    private int maxConcurrentQueries;
+
+    private long queryQueueTimeout;
+
+    private int queryTimeout;
+
+    private int queryFetchSize;
+
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    private String reactiveSchedulerBeanName;
+
+    private BeanFactory beanFactory;
+
+    private final Class<? extends T> repositoryInterface;
+
+    private QueryBulkheads queryBulkheads;
+
+    private final List<DeferredRepositoryQuery> deferredQueries = new CopyOnWriteArrayList<>();
+
     /**
      * Creates a new {@link EbeanRepositoryFactoryBean} for the given repository interface.
      *
@@ -45,6 +92,7 @@ public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
      */
     public EbeanRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
         super(repositoryInterface);
+        this.repositoryInterface = repositoryInterface;
     }
 
     /*
@@ -56,6 +104,173 @@ public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
         super.setMappingContext(mappingContext);
     }
 
+    /**
+     * Configures when the query methods of the repository are resolved. Defaults to {@link QueryResolution#EAGER}.
+     *
+     * @param queryResolution must not be {@literal null}.
+     */
+    public void setQueryResolution(QueryResolution queryResolution) {
+        Assert.notNull(queryResolution, "QueryResolution must not be null!");
+        this.queryResolution = queryResolution;
+    }
+
+    /**
+     * Configures whether the declared queries of the repository are validated against the {@link EbeanServer} when
+     * its query methods are resolved. Defaults to {@literal false}.
+     *
+     * @param validateQueries
+     */
+    public void setValidateQueries(boolean validateQueries) {
+        this.validateQueries = validateQueries;
+    }
+
+    /**
+     * Configures the number of ids deleted by each statement of the chunked delete operations of the repository.
+     *
+     * @param deleteChunkSize the chunk size, must be greater than zero.
+     * @see SimpleEbeanRepository#setDeleteChunkSize(int)
+     */
+    public void setDeleteChunkSize(int deleteChunkSize) {
+        Assert.isTrue(deleteChunkSize > 0, "Delete chunk size must be greater than zero!");
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Configures the pause in milliseconds between two chunks of the chunked delete operations of the repository.
+     *
+     * @param deleteChunkPause the pause in milliseconds, must not be negative.
+     * @see SimpleEbeanRepository#setDeleteChunkPause(long)
+     */
+    public void setDeleteChunkPause(long deleteChunkPause) {
+        Assert.isTrue(deleteChunkPause >= 0, "Delete chunk pause must not be negative!");
+        this.deleteChunkPause = deleteChunkPause;
+    }
+
+    /**
+     * Configures the {@link Executor} running the query methods of the repository that return a
+     * {@link java.util.concurrent.CompletableFuture}. It should be bounded to the size of the connection pool.
+     *
+     * @param queryExecutor the executor, may be {@literal null}.
+     */
+    public void setQueryExecutor(Executor queryExecutor) {
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * Configures the maximum number of concurrently executing queries of the repository, unless its interface is
+     * annotated with {@link org.springframework.data.ebean.annotation.ConcurrencyLimit}. Defaults to {@literal 0},
+     * i.e. unlimited.
+     *
+     * @param maxConcurrentQueries the limit, {@literal 0} for none.
+     */
+    public void setMaxConcurrentQueries(int maxConcurrentQueries) {
+        Assert.isTrue(maxConcurrentQueries >= 0, "Maximum concurrent queries must not be negative!");
+        this.maxConcurrentQueries = maxConcurrentQueries;
+    }
+
+    /**
+     * Configures the maximum time in milliseconds a query of the repository waits when the maximum number of
+     * concurrent queries is reached. Defaults to {@literal 0}, rejecting such queries immediately.
+     *
+     * @param queryQueueTimeout the timeout in milliseconds, must not be negative.
+     */
+    public void setQueryQueueTimeout(long queryQueueTimeout) {
+        Assert.isTrue(queryQueueTimeout >= 0, "Query queue timeout must not be negative!");
+        this.queryQueueTimeout = queryQueueTimeout;
+    }
+
+    /**
+     * Configures the timeout in seconds of the queries of the repository whose query method does not declare its own
+     * through {@link org.springframework.data.ebean.annotation.QueryHints}. Defaults to {@literal 0}, i.e. none.
+     *
+     * @param queryTimeout the timeout in seconds, {@literal 0} for none.
+     */
+    public void setQueryTimeout(int queryTimeout) {
+        Assert.isTrue(queryTimeout >= 0, "Query timeout must not be negative!");
+        this.queryTimeout = queryTimeout;
+    }
+
+    /**
+     * Configures the JDBC fetch size of the queries of the repository whose query method does not declare its own
+     * through {@link org.springframework.data.ebean.annotation.QueryHints}. Defaults to {@literal 0}, i.e. the driver
+     * default.
+     *
+     * @param queryFetchSize the number of rows fetched per round trip, {@literal 0} for the driver default.
+     */
+    public void setQueryFetchSize(int queryFetchSize) {
+        Assert.isTrue(queryFetchSize >= 0, "Query fetch size must not be negative!");
+        this.queryFetchSize = queryFetchSize;
+    }
+
+    /**
+     * Configures the {@link CacheInvalidationBroadcaster} notifying the peer nodes of the entities written by the
+     * repository.
+     *
+     * @param cacheInvalidationBroadcaster the broadcaster, may be {@literal null}.
+     */
+    public void setCacheInvalidationBroadcaster(CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+    }
+
+    /**
+     * Configures the name of the {@link reactor.core.scheduler.Scheduler} bean running the operations and reactive
+     * query methods of the repository, if it uses reactive wrapper types.
+     *
+     * @param reactiveSchedulerBeanName the bean name, may be {@literal null}.
+     */
+    public void setReactiveSchedulerBeanName(String reactiveSchedulerBeanName) {
+        this.reactiveSchedulerBeanName = reactiveSchedulerBeanName;
+    }
+
+    /**
+     * Returns the bulkheads limiting the concurrent queries of the repository, exposing their metrics.
+     *
+     * @return
+     */
+    public QueryBulkheads getQueryBulkheads() {
+        return queryBulkheads;
+    }
+
+    /**
+     * Returns the queries of the repository waiting to be resolved in {@link QueryResolution#PARALLEL} mode.
+     *
+     * @return
+     */
+    List<DeferredRepositoryQuery> getDeferredQueries() {
+        return deferredQueries;
+    }
+
+    /**
+     * Returns the queries warming up the caches declared by {@link org.springframework.data.ebean.annotation.WarmUp}
+     * annotations of the repository interface.
+     *
+     * @return
+     */
+    List<Callable<Object>> getWarmUpQueries() {
+        return WarmUpQuery.of(repositoryInterface, this::getObject, ebeanServer,
+                getRepositoryInformation().getDomainType());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
+     */
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+        super.setApplicationEventPublisher(publisher);
+        this.eventPublisher = publisher;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+     */
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        super.setBeanFactory(beanFactory);
+        this.beanFactory = beanFactory;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -86,6 +301,39 @@ public class EbeanRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
      * @return
      */
     protected RepositoryFactorySupport createRepositoryFactory(EbeanServer ebeanServer) {
-        return new EbeanRepositoryFactory(ebeanServer);
+        EbeanRepositoryFactory repositoryFactory = new EbeanRepositoryFactory(ebeanServer);
+        repositoryFactory.setEventPublisher(eventPublisher);
+        repositoryFactory.setQueryResolution(queryResolution);
+        repositoryFactory.setValidateQueries(validateQueries);
+        repositoryFactory.setQueryExecutor(queryExecutor);
+        repositoryFactory.setCacheInvalidationBroadcaster(cacheInvalidationBroadcaster);
+        if (reactiveSchedulerBeanName != null && ReactiveWrappers.usesReactiveType(repositoryInterface)) {
+            repositoryFactory.setReactiveScheduler(beanFactory.getBean(reactiveSchedulerBeanName, Scheduler.class));
+        }
+        queryBulkheads = new QueryBulkheads(repositoryInterface, maxConcurrentQueries, queryQueueTimeout);
+        repositoryFactory.setQueryBulkheads(queryBulkheads);
+        repositoryFactory.setDefaultQueryHints(DefaultQueryHints.NONE.withTimeout(queryTimeout)
+                .withFetchSize(queryFetchSize));
+        if (deleteChunkSize != null) {
+            repositoryFactory.setDeleteChunkSize(deleteChunkSize);
+        }
+        if (deleteChunkPause != null) {
+            repositoryFactory.setDeleteChunkPause(deleteChunkPause);
+        }
+        if (queryResolution == QueryResolution.PARALLEL) {
+            repositoryFactory.addQueryCreationListener(new DeferredQueryCollector());
+        }
+        return repositoryFactory;
+    }
+
+    /**
+     * {@link QueryCreationListener} collecting the {@link DeferredRepositoryQuery}s created for the repository.
+     */
+    private class DeferredQueryCollector implements QueryCreationListener<DeferredRepositoryQuery> {
+
+        @Override
+        public void onCreation(DeferredRepositoryQuery query) {
+            deferredQueries.add(query);
+        }
     }
 }
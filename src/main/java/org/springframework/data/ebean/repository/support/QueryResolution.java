@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.ebean.repository.support;
+
+/**
+ * Defines when the query methods of a repository are resolved.
+ *
+ * @author Xuegui Yuan
+ */
+public enum QueryResolution {
+
+    /**
+     * Resolve all query methods serially while the repository is created.
+     */
+    EAGER,
+
+    /**
+     * Resolve each query method on its first invocation. Invalid queries are only reported when invoked.
+     */
+    LAZY,
+
+    /**
+     * Resolve the query methods of all repositories in parallel on the fork-join pool once all singletons have been
+     * instantiated. Invalid queries fail the application context startup.
+     */
+    PARALLEL
+}
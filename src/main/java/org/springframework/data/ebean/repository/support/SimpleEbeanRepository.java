@@ -17,22 +17,49 @@
 package org.springframework.data.ebean.repository.support;
 
 import io.ebean.*;
+import io.ebean.plugin.Property;
 import io.ebean.text.PathProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.ebean.cache.CacheInvalidationBroadcaster;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.ebean.domain.AbstractAggregateRoot;
+import org.springframework.data.ebean.domain.DomainEvent;
+import org.springframework.data.ebean.domain.DomainEventBatch;
+import org.springframework.data.ebean.repository.DeleteProgressListener;
 import org.springframework.data.ebean.repository.EbeanRepository;
 import org.springframework.data.ebean.util.Converters;
 import org.springframework.data.ebean.util.ExampleExpressionBuilder;
+import org.springframework.data.util.AnnotationDetectionMethodCallback;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import javax.persistence.Version;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.CrudRepository} interface. This will offer
@@ -48,11 +75,33 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
 
     private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
     private static final String PROP_MUST_NOT_BE_NULL = "The given property must not be null!";
+    private static final int DEFAULT_EVENT_BATCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int DEFAULT_DELETE_CHUNK_SIZE = 1000;
 
     private EbeanServer ebeanServer;
 
     private Class<T> entityType;
 
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    private int eventBatchSize = DEFAULT_EVENT_BATCH_SIZE;
+
+    private int deleteChunkSize = DEFAULT_DELETE_CHUNK_SIZE;
+
+    private long deleteChunkPause;
+
+    private final Method domainEventsMethod;
+
+    private final Method clearDomainEventsMethod;
+
+    private volatile BulkStatement<T> upsertStatement;
+
+    private volatile BulkStatement<T> insertStatement;
+
+    private volatile BulkStatement<T> identityInsertStatement;
 
     /**
      * Creates a new {@link SimpleEbeanRepository} to manage objects of the given domain type.
@@ -63,6 +112,59 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     public SimpleEbeanRepository(Class<T> entityType, EbeanServer ebeanServer) {
         this.entityType = entityType;
         this.ebeanServer = ebeanServer;
+        this.domainEventsMethod = findAggregateMethod(entityType, DomainEvents.class);
+        this.clearDomainEventsMethod = findAggregateMethod(entityType, AfterDomainEventPublication.class);
+    }
+
+    /**
+     * Set the {@link ApplicationEventPublisher} used to publish the domain events of bulk operations as
+     * {@link DomainEventBatch}es. If not set, bulk operations leave the events on the aggregates.
+     *
+     * @param eventPublisher the event publisher, may be {@literal null}.
+     */
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Set the {@link CacheInvalidationBroadcaster} notifying the peer nodes of the entities written by the repository,
+     * so that they evict them from their caches. If not set, only the caches of this node are invalidated.
+     *
+     * @param cacheInvalidationBroadcaster the broadcaster, may be {@literal null}.
+     */
+    public void setCacheInvalidationBroadcaster(CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+        this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
+    }
+
+    /**
+     * Set the number of aggregates whose domain events are published together in one {@link DomainEventBatch}.
+     *
+     * @param eventBatchSize the chunk size, must be greater than zero.
+     */
+    public void setEventBatchSize(int eventBatchSize) {
+        Assert.isTrue(eventBatchSize > 0, "Event batch size must be greater than zero!");
+        this.eventBatchSize = eventBatchSize;
+    }
+
+    /**
+     * Set the number of ids deleted by each statement of the chunked delete operations.
+     *
+     * @param deleteChunkSize the chunk size, must be greater than zero.
+     */
+    public void setDeleteChunkSize(int deleteChunkSize) {
+        Assert.isTrue(deleteChunkSize > 0, "Delete chunk size must be greater than zero!");
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Set the pause between two chunks of the chunked delete operations, giving concurrent transactions and
+     * replication room to catch up. Defaults to no pause.
+     *
+     * @param deleteChunkPause the pause in milliseconds, must not be negative.
+     */
+    public void setDeleteChunkPause(long deleteChunkPause) {
+        Assert.isTrue(deleteChunkPause >= 0, "Delete chunk pause must not be negative!");
+        this.deleteChunkPause = deleteChunkPause;
     }
 
     @Override
@@ -80,7 +182,7 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
         return ebeanServer;
     }
 
-    private Class<T> getEntityType() {
+    Class<T> getEntityType() {
         return entityType;
     }
 
@@ -103,6 +205,7 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     @Override
     public <S extends T> S save(S s) {
         db().save(s);
+        invalidateEntities(Collections.singletonList(s));
         return s;
     }
 
@@ -110,12 +213,15 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
         Assert.notNull(entities, "The given Iterable of entities not be null!");
         db().saveAll((Collection<?>) entities);
+        invalidateEntities(entities);
+        publishEventBatches(entities);
         return entities;
     }
 
     @Override
     public <S extends T> S update(S s) {
         db().update(s);
+        invalidateEntities(Collections.singletonList(s));
         return s;
     }
 
@@ -123,51 +229,198 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
     public Iterable<T> updateAll(Iterable<T> entities) {
         Assert.notNull(entities, "The given Iterable of entities not be null!");
         db().updateAll((Collection<?>) entities);
+        invalidateEntities(entities);
+        publishEventBatches(entities);
+        return entities;
+    }
+
+    @Override
+    public int updateById(ID id, Map<String, ?> changes) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        int rows = updateQuery(changes).where().idEq(id).update();
+        invalidateIds(Collections.singletonList(id));
+        return rows;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void updateById(ID id, Number expectedVersion, Map<String, ?> changes) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        Assert.notNull(expectedVersion, "The given version must not be null!");
+        Field version = versionField();
+        Class<?> versionType = version == null ? null : ClassUtils.resolvePrimitiveIfNecessary(version.getType());
+        if (versionType == null || !Number.class.isAssignableFrom(versionType)) {
+            throw new IllegalStateException(
+                    String.format("Entity %s has no numeric version property!", getEntityType().getName()));
+        }
+        String versionProperty = version.getName();
+        Number nextVersion = NumberUtils.convertNumberToTargetClass(expectedVersion.longValue() + 1,
+                (Class<Number>) versionType);
+        int rows = updateQuery(changes)
+                .set(versionProperty, nextVersion)
+                .where().idEq(id).eq(versionProperty, expectedVersion)
+                .update();
+        invalidateIds(Collections.singletonList(id));
+        if (rows == 0) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Entity %s with id %s and version %s does not exist or was updated concurrently!",
+                    getEntityType().getName(), id, expectedVersion));
+        }
+    }
+
+    @Override
+    public int updateAllById(Iterable<ID> ids, Map<String, ?> changes) {
+        Assert.notNull(ids, "The given Iterable of ids not be null!");
+        String idProperty = idProperty();
+        return inChunks(ids, BATCH_SIZE, 0, chunk -> {
+            int rows = updateQuery(changes).where().in(idProperty, chunk).update();
+            invalidateIds(chunk);
+            return rows;
+        });
+    }
+
+    @Override
+    public <S extends T> S upsert(S entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        upsertAll(Collections.singletonList(entity));
+        return entity;
+    }
+
+    @Override
+    public <S extends T> Iterable<S> upsertAll(Iterable<S> entities) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+        BulkStatement<T> statement = upsertStatement();
+        statement.bind(db().createSqlUpdate(statement.getSql()), entities, BATCH_SIZE);
+        db().externalModification(statement.getTable(), true, true, false);
+        invalidateEntities(entities);
+        publishEventBatches(entities);
         return entities;
     }
 
+    @Override
+    public long insertBulk(Iterable<? extends T> entities) {
+        return insertBulk(entities, false);
+    }
+
+    @Override
+    public long insertBulk(Iterable<? extends T> entities, boolean fetchGeneratedIds) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+        List<T> assigned = new ArrayList<>();
+        List<T> generated = new ArrayList<>();
+        BulkStatement<T> statement = insertStatement(true);
+        for (T entity : entities) {
+            (statement.assignId(entity) ? assigned : generated).add(entity);
+        }
+        long count = 0;
+        if (!assigned.isEmpty()) {
+            count += statement.bind(db().createSqlUpdate(statement.getSql()), assigned, BATCH_SIZE);
+        }
+        boolean unknownIds = false;
+        if (!generated.isEmpty()) {
+            BulkStatement<T> identityStatement = insertStatement(false);
+            if (fetchGeneratedIds) {
+                count += identityStatement.insertEach(generated);
+            } else {
+                count += identityStatement.bind(
+                        db().createSqlUpdate(identityStatement.getSql()), generated, BATCH_SIZE);
+                unknownIds = true;
+            }
+        }
+        db().externalModification(statement.getTable(), true, false, false);
+        if (unknownIds) {
+            invalidateAll();
+        } else {
+            invalidateEntities(entities);
+        }
+        return count;
+    }
+
     @Override
     public void deleteById(ID id) {
         Assert.notNull(id, ID_MUST_NOT_BE_NULL);
         db().delete(getEntityType(), id);
+        invalidateIds(Collections.singletonList(id));
     }
 
     @Override
     public void deletePermanentById(ID id) {
         Assert.notNull(id, ID_MUST_NOT_BE_NULL);
         db().deletePermanent(getEntityType(), id);
+        invalidateIds(Collections.singletonList(id));
     }
 
     @Override
     public void delete(T t) {
         db().delete(t);
+        invalidateEntities(Collections.singletonList(t));
     }
 
     @Override
     public void deletePermanent(T t) {
         db().deletePermanent(t);
+        invalidateEntities(Collections.singletonList(t));
     }
 
     @Override
     public void deleteAll(Iterable<? extends T> entities) {
         Assert.notNull(entities, "The given Iterable of entities not be null!");
         db().deleteAll((Collection<?>) entities);
+        invalidateEntities(entities);
     }
 
     @Override
     public void deletePermanentAll(Iterable<? extends T> entities) {
         Assert.notNull(entities, "The given Iterable of entities not be null!");
         db().deleteAllPermanent((Collection<?>) entities);
+        invalidateEntities(entities);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteAllById(Iterable<ID> ids) {
+        Assert.notNull(ids, "The given Iterable of ids not be null!");
+        String idProperty = idProperty();
+        return inChunks(ids, deleteChunkSize, deleteChunkPause, chunk -> {
+            int rows = query().where().in(idProperty, chunk).delete();
+            invalidateIds(chunk);
+            return rows;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deletePermanentAllById(Iterable<ID> ids) {
+        Assert.notNull(ids, "The given Iterable of ids not be null!");
+        String idProperty = idProperty();
+        return inChunks(ids, deleteChunkSize, deleteChunkPause, chunk -> {
+            int rows = query().setIncludeSoftDeletes().where().in(idProperty, chunk).delete();
+            invalidateIds(chunk);
+            return rows;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deleteAllInChunks(ID startAfter, DeleteProgressListener<ID> listener) {
+        return deleteInIdRanges(startAfter, listener, false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deletePermanentAllInChunks(ID startAfter, DeleteProgressListener<ID> listener) {
+        return deleteInIdRanges(startAfter, listener, true);
     }
 
     @Override
     public void deleteAll() {
         query().delete();
+        invalidateAll();
     }
 
     @Override
     public void deletePermanentAll() {
         query().setIncludeSoftDeletes().delete();
+        invalidateAll();
     }
 
     @Override
@@ -280,6 +533,37 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
         return Converters.convertToSpringDataPage(pagedList, pageable.getSort());
     }
 
+    @Override
+    public Slice<T> findSlice(Pageable pageable) {
+        return findSlice(query(), pageable);
+    }
+
+    @Override
+    public Slice<T> findSlice(String fetchPath, Pageable pageable) {
+        return findSlice(query(fetchPath), pageable);
+    }
+
+    @Override
+    public <S extends T> Slice<S> findSlice(Example<S> example, Pageable pageable) {
+        return findSlice(queryByExample(example), pageable);
+    }
+
+    @Override
+    public Slice<T> findSliceAfter(ID id, int size) {
+        Assert.isTrue(size > 0, "Size must be greater than zero!");
+        String idProperty = idProperty();
+        Query<T> query = query();
+        if (id != null) {
+            query.where().gt(idProperty, id);
+        }
+        List<T> list = query
+                .setMaxRows(size + 1)
+                .setOrder(Converters.convertToEbeanOrderBy(Sort.by(idProperty)))
+                .findList();
+        boolean hasNext = list.size() > size;
+        return new SliceImpl<>(hasNext ? list.subList(0, size) : list, Pageable.unpaged(), hasNext);
+    }
+
     @Override
     public <S extends T> List<S> findAll(Example<S> example) {
         return queryByExample(example).findList();
@@ -349,6 +633,246 @@ public class SimpleEbeanRepository<T, ID> implements EbeanRepository<T, ID> {
         return query().findCount();
     }
 
+    /**
+     * Publish the domain events registered by the given aggregates as one {@link DomainEventBatch} per chunk of
+     * {@code eventBatchSize} aggregates, clearing them so they are not published again one by one.
+     *
+     * @param entities the persisted aggregates
+     */
+    private void publishEventBatches(Iterable<?> entities) {
+        if (eventPublisher == null || domainEventsMethod == null) {
+            return;
+        }
+        List<DomainEvent> events = new ArrayList<>();
+        int aggregateCount = 0;
+        for (Object aggregate : entities) {
+            events.addAll(drainDomainEvents(aggregate));
+            if (++aggregateCount == eventBatchSize) {
+                publishEventBatch(events, aggregateCount);
+                events = new ArrayList<>();
+                aggregateCount = 0;
+            }
+        }
+        publishEventBatch(events, aggregateCount);
+    }
+
+    /**
+     * Return and clear the domain events of the given aggregate through its {@link DomainEvents} and
+     * {@link AfterDomainEventPublication} methods, as the event publication of Spring Data does.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<DomainEvent> drainDomainEvents(Object aggregate) {
+        Collection<DomainEvent> events = new ArrayList<>(
+                (Collection<DomainEvent>) ReflectionUtils.invokeMethod(domainEventsMethod, aggregate));
+        ReflectionUtils.invokeMethod(clearDomainEventsMethod, aggregate);
+        return events;
+    }
+
+    /**
+     * Broadcast the invalidation of the given written entities to the peer nodes, if a
+     * {@link CacheInvalidationBroadcaster} is set.
+     *
+     * @param entities the written entities, entities without id only invalidate the query cache
+     */
+    private void invalidateEntities(Iterable<?> entities) {
+        if (cacheInvalidationBroadcaster == null) {
+            return;
+        }
+        List<Object> ids = new ArrayList<>();
+        for (Object entity : entities) {
+            Object id = db().getBeanId(entity);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        cacheInvalidationBroadcaster.invalidate(getEntityType(), ids);
+    }
+
+    private void invalidateIds(Collection<?> ids) {
+        if (cacheInvalidationBroadcaster != null) {
+            cacheInvalidationBroadcaster.invalidate(getEntityType(), ids);
+        }
+    }
+
+    private void invalidateAll() {
+        if (cacheInvalidationBroadcaster != null) {
+            cacheInvalidationBroadcaster.invalidateAll(getEntityType());
+        }
+    }
+
+    private void publishEventBatch(List<DomainEvent> events, int aggregateCount) {
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new DomainEventBatch(getEntityType(), aggregateCount, events));
+        }
+    }
+
+    /**
+     * Name of the id property. Restrictions on the id use it instead of {@code idIn()}, which renders the id column
+     * with the query alias that UPDATE and DELETE statements do not declare.
+     */
+    private String idProperty() {
+        return db().getPluginApi().getBeanType(getEntityType()).getIdProperty().getName();
+    }
+
+    /**
+     * Returns the field of the {@link Version} property of the entity, {@literal null} if it has none.
+     */
+    private Field versionField() {
+        for (Property property : db().getPluginApi().getBeanType(getEntityType()).allProperties()) {
+            Field field = ReflectionUtils.findField(getEntityType(), property.getName());
+            if (field != null && field.isAnnotationPresent(Version.class)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Apply the given statement to consecutive chunks of the given ids, pausing between two chunks.
+     *
+     * @param ids         the ids
+     * @param chunkSize   the maximum number of ids per chunk
+     * @param pauseMillis the pause between two chunks, {@literal 0} for none
+     * @param statement   the statement executed per chunk, returning the number of affected rows
+     * @return the number of affected rows
+     */
+    private int inChunks(Iterable<ID> ids, int chunkSize, long pauseMillis, ToIntFunction<List<ID>> statement) {
+        int rows = 0;
+        List<ID> chunk = new ArrayList<>(Math.min(chunkSize, BATCH_SIZE));
+        Iterator<ID> iterator = ids.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                rows += statement.applyAsInt(chunk);
+                chunk.clear();
+                if (iterator.hasNext()) {
+                    pause(pauseMillis);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Delete all entities after the given id by consecutive id ranges of {@code deleteChunkSize} ids, each with its own
+     * statement.
+     */
+    private long deleteInIdRanges(ID startAfter, DeleteProgressListener<ID> listener, boolean permanent) {
+        String idProperty = idProperty();
+        long deleted = 0;
+        ID from = startAfter;
+        while (true) {
+            List<ID> ids = idRange(from, permanent, idProperty)
+                    .orderBy(idProperty)
+                    .setMaxRows(deleteChunkSize)
+                    .findIds();
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            ID to = ids.get(ids.size() - 1);
+            Query<T> delete = idRange(from, permanent, idProperty);
+            delete.where().le(idProperty, to);
+            deleted += delete.delete();
+            invalidateIds(ids);
+            if (listener != null) {
+                listener.chunkDeleted(to, deleted);
+            }
+            if (ids.size() < deleteChunkSize) {
+                return deleted;
+            }
+            pause(deleteChunkPause);
+            from = to;
+        }
+    }
+
+    private Query<T> idRange(ID startAfter, boolean includeSoftDeletes, String idProperty) {
+        Query<T> query = query();
+        if (includeSoftDeletes) {
+            query.setIncludeSoftDeletes();
+        }
+        if (startAfter != null) {
+            query.where().gt(idProperty, startAfter);
+        }
+        return query;
+    }
+
+    private static void pause(long millis) {
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while pausing between chunks!", e);
+            }
+        }
+    }
+
+    /**
+     * Create an {@link UpdateQuery} setting the given properties.
+     *
+     * @param changes property names and their new values
+     * @return the update query, to be restricted by the caller
+     */
+    private UpdateQuery<T> updateQuery(Map<String, ?> changes) {
+        Assert.notEmpty(changes, "The given changes must not be empty!");
+        UpdateQuery<T> update = updateQuery();
+        changes.forEach((property, value) -> {
+            if (value == null) {
+                update.setNull(property);
+            } else {
+                update.set(property, value);
+            }
+        });
+        return update;
+    }
+
+    private BulkStatement<T> upsertStatement() {
+        BulkStatement<T> statement = upsertStatement;
+        if (statement == null) {
+            statement = BulkStatement.upsert(db(), getEntityType());
+            upsertStatement = statement;
+        }
+        return statement;
+    }
+
+    private BulkStatement<T> insertStatement(boolean includeId) {
+        BulkStatement<T> statement = includeId ? insertStatement : identityInsertStatement;
+        if (statement == null) {
+            statement = BulkStatement.insert(db(), getEntityType(), includeId);
+            if (includeId) {
+                insertStatement = statement;
+            } else {
+                identityInsertStatement = statement;
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Find the method of the given aggregate root type carrying the given domain event annotation of Spring Data.
+     *
+     * @return the method, {@literal null} if the given type is not an {@link AbstractAggregateRoot}
+     */
+    private static <A extends Annotation> Method findAggregateMethod(Class<?> entityType, Class<A> annotationType) {
+        if (!AbstractAggregateRoot.class.isAssignableFrom(entityType)) {
+            return null;
+        }
+        AnnotationDetectionMethodCallback<A> callback = new AnnotationDetectionMethodCallback<>(annotationType);
+        ReflectionUtils.doWithMethods(entityType, callback);
+        Method method = callback.getRequiredMethod();
+        ReflectionUtils.makeAccessible(method);
+        return method;
+    }
+
+    private <S> Slice<S> findSlice(Query<S> query, Pageable pageable) {
+        List<S> list = query
+                .setMaxRows(pageable.getPageSize() + 1)
+                .setFirstRow((int) pageable.getOffset())
+                .setOrder(Converters.convertToEbeanOrderBy(pageable.getSort()))
+                .findList();
+        return Converters.convertToSpringDataSlice(list, pageable);
+    }
+
     private Query<T> query() {
         return db().find(getEntityType());
     }
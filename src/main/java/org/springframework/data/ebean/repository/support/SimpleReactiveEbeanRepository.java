@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.Query;
+import io.ebean.QueryIterator;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.ebean.repository.ReactiveEbeanRepository;
+import org.springframework.data.ebean.util.Converters;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Default implementation of the {@link ReactiveEbeanRepository} interface, running the operations of a
+ * {@link SimpleEbeanRepository} on a {@link Scheduler}. Multiple entities are read through
+ * {@link Query#findIterate()}, each requested row being read from the open result set on the scheduler.
+ *
+ * @param <T>  the type of the entity to handle
+ * @param <ID> the type of the entity's identifier
+ * @author Xuegui Yuan
+ */
+public class SimpleReactiveEbeanRepository<T, ID> implements ReactiveEbeanRepository<T, ID> {
+
+    private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null!";
+
+    private final SimpleEbeanRepository<T, ID> repository;
+
+    private final Scheduler scheduler;
+
+    /**
+     * Creates a new {@link SimpleReactiveEbeanRepository} running the operations of the given repository on the given
+     * {@link Scheduler}, which should be bounded to the size of the connection pool.
+     *
+     * @param repository must not be {@literal null}.
+     * @param scheduler  must not be {@literal null}.
+     */
+    public SimpleReactiveEbeanRepository(SimpleEbeanRepository<T, ID> repository, Scheduler scheduler) {
+        Assert.notNull(repository, "Repository must not be null!");
+        Assert.notNull(scheduler, "Scheduler must not be null!");
+        this.repository = repository;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        return Mono.fromCallable(() -> repository.save(entity)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+        return Flux.defer(() -> Flux.fromIterable(repository.saveAll(entities))).subscribeOn(scheduler);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.fromCallable(() -> repository.findById(id).orElse(null)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.fromCallable(() -> repository.existsById(id)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return iterate(this::query);
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        Assert.notNull(sort, "Sort must not be null!");
+        return iterate(() -> query().setOrder(Converters.convertToEbeanOrderBy(sort)));
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        Assert.notNull(ids, "The given Iterable of ids not be null!");
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return idList.isEmpty() ? Flux.empty() : iterate(() -> query().where().idIn(idList).query());
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> idStream) {
+        Assert.notNull(idStream, "The given Publisher of ids not be null!");
+        return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromCallable(repository::count).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.<Void>fromRunnable(() -> repository.deleteById(id)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        Assert.notNull(id, ID_MUST_NOT_BE_NULL);
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        Assert.notNull(entity, "Entity must not be null!");
+        return Mono.<Void>fromRunnable(() -> repository.delete(entity)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        Assert.notNull(entities, "The given Iterable of entities not be null!");
+        return Mono.<Void>fromRunnable(() -> repository.deleteAll(entities)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+        return Flux.from(entityStream).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.<Void>fromRunnable(repository::deleteAll).subscribeOn(scheduler);
+    }
+
+    /**
+     * Reads the entities of the given query row by row as they are requested, closing the {@link QueryIterator} and
+     * with it the connection when the {@link Flux} completes, fails or is cancelled.
+     */
+    private Flux<T> iterate(Supplier<Query<T>> query) {
+        return Flux.using(() -> query.get().findIterate(), iterator -> Flux.fromIterable(() -> iterator),
+                QueryIterator::close).subscribeOn(scheduler);
+    }
+
+    private Query<T> query() {
+        return repository.db().find(repository.getEntityType());
+    }
+}
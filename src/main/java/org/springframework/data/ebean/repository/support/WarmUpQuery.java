@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.CacheMode;
+import io.ebean.EbeanServer;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.ebean.annotation.Modifying;
+import org.springframework.data.ebean.annotation.WarmUp;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Query loading entities into the bean cache on startup, declared by a {@link WarmUp} annotation of a repository.
+ *
+ * @author Xuegui Yuan
+ */
+final class WarmUpQuery implements Callable<Object> {
+
+    private final String description;
+    private final Callable<Object> query;
+
+    private WarmUpQuery(String description, Callable<Object> query) {
+        this.description = description;
+        this.query = query;
+    }
+
+    /**
+     * Creates the warm-up queries declared by the given repository interface: one loading all entities of the domain
+     * type if the interface is annotated with {@link WarmUp}, and one per annotated query method.
+     *
+     * @param repositoryInterface must not be {@literal null}.
+     * @param repository          supplying the repository proxy, must not be {@literal null}.
+     * @param ebeanServer         must not be {@literal null}.
+     * @param domainType          must not be {@literal null}.
+     * @return the warm-up queries, possibly empty
+     * @throws IllegalStateException if the domain type has no bean cache or an annotated query method can not be used
+     *                               for warming up the caches.
+     */
+    static List<Callable<Object>> of(Class<?> repositoryInterface, Supplier<?> repository, EbeanServer ebeanServer,
+                                     Class<?> domainType) {
+        List<Callable<Object>> queries = new ArrayList<>();
+        if (AnnotatedElementUtils.hasAnnotation(repositoryInterface, WarmUp.class)) {
+            getBeanCachingDescriptor(repositoryInterface, ebeanServer, domainType);
+            queries.add(new WarmUpQuery("all " + domainType.getName(), () -> ebeanServer.find(domainType)
+                    .setBeanCacheMode(CacheMode.PUT)
+                    .setLoadBeanCache(true)
+                    .findList()));
+        }
+        for (Method method : repositoryInterface.getMethods()) {
+            if (!AnnotatedElementUtils.hasAnnotation(method, WarmUp.class)) {
+                continue;
+            }
+            if (method.getParameterCount() > 0 || Stream.class.isAssignableFrom(method.getReturnType())
+                    || AnnotatedElementUtils.hasAnnotation(method, Modifying.class)) {
+                throw new IllegalStateException(String.format(
+                        "@WarmUp query method %s must neither take parameters, return a Stream nor modify entities!",
+                        method));
+            }
+            BeanDescriptor<?> descriptor = getBeanCachingDescriptor(repositoryInterface, ebeanServer, domainType);
+            queries.add(new WarmUpQuery(repositoryInterface.getSimpleName() + "." + method.getName(), () -> {
+                Object result = ReflectionUtils.invokeMethod(method, repository.get());
+                result = result instanceof CompletableFuture ? ((CompletableFuture<?>) result).join() : result;
+                // queries only read through the bean cache, the loaded entities are put explicitly
+                descriptor.cacheBeanPutAll(entitiesOf(result, domainType));
+                return result;
+            }));
+        }
+        return queries;
+    }
+
+    private static BeanDescriptor<?> getBeanCachingDescriptor(Class<?> repositoryInterface, EbeanServer ebeanServer,
+                                                              Class<?> domainType) {
+        BeanDescriptor<?> descriptor = ((SpiEbeanServer) ebeanServer).getBeanDescriptor(domainType);
+        if (descriptor == null || !descriptor.isBeanCaching()) {
+            throw new IllegalStateException(String.format(
+                    "%s is annotated with @WarmUp but %s has no bean cache!", repositoryInterface.getName(),
+                    domainType.getName()));
+        }
+        return descriptor;
+    }
+
+    /**
+     * Returns the entities of the given domain type contained in the given query method result, skipping
+     * projections.
+     */
+    private static List<Object> entitiesOf(Object result, Class<?> domainType) {
+        Object unwrapped = result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+        Iterable<?> candidates = unwrapped instanceof Iterable ? (Iterable<?>) unwrapped
+                : Collections.singletonList(unwrapped);
+        List<Object> entities = new ArrayList<>();
+        for (Object candidate : candidates) {
+            if (domainType.isInstance(candidate)) {
+                entities.add(candidate);
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    public Object call() throws Exception {
+        return query.call();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -21,6 +21,9 @@ import io.ebean.PagedList;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
@@ -82,4 +85,19 @@ public class Converters {
                 PageRequest.of(pagedList.getPageIndex(), pagedList.getPageSize()),
                 pagedList.getTotalCount());
     }
+
+    /**
+     * Convert a list fetched with one row more than the page size to Spring data Slice. The extra row only signals
+     * that there is a next slice and is left out of the slice content.
+     *
+     * @param list     list of at most {@code pageSize + 1} elements.
+     * @param pageable
+     * @param <T>
+     * @return
+     */
+    public static <T> Slice<T> convertToSpringDataSlice(List<T> list, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        boolean hasNext = list.size() > pageSize;
+        return new SliceImpl<T>(hasNext ? list.subList(0, pageSize) : list, pageable, hasNext);
+    }
 }
@@ -0,0 +1,188 @@
+package org.springframework.data.ebean.cache;
+
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.spring.txn.SpringJdbcTransactionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.repository.support.CountryRepository;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Country;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the {@link CacheInvalidationBroadcaster} of the repository writes.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = CacheInvalidationBroadcasterIntegrationTest.Config.class)
+public class CacheInvalidationBroadcasterIntegrationTest {
+
+  @Autowired
+  CountryRepository countryRepository;
+
+  @Autowired
+  CacheInvalidationTransport transport;
+
+  @Autowired
+  EbeanServer ebeanServer;
+
+  @Autowired
+  DataSource dataSource;
+
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  Country country;
+
+  List<List<CacheInvalidation>> sent = new ArrayList<>();
+
+  Consumer<List<CacheInvalidation>> receiver = sent::add;
+
+  @Before
+  public void setUp() {
+    countryRepository.deleteAll();
+    country = countryRepository.save(new Country("DE", "Germany"));
+    transport.subscribe(receiver);
+  }
+
+  @After
+  public void tearDown() {
+    transport.unsubscribe(receiver);
+  }
+
+  @Test
+  public void broadcastCacheInvalidationsAfterCommit() {
+    new TransactionTemplate(transactionManager).execute(status -> {
+      country.setName("Deutschland");
+      countryRepository.save(country);
+      country.setName("Allemagne");
+      countryRepository.save(country);
+      assertTrue(sent.isEmpty());
+      return null;
+    });
+
+    assertEquals(1, sent.size());
+    assertEquals(1, sent.get(0).size());
+    CacheInvalidation invalidation = sent.get(0).get(0);
+    assertEquals(Country.class.getName(), invalidation.getEntityType());
+    assertEquals(Collections.singletonList(country.getId()), invalidation.getIds());
+  }
+
+  @Test
+  public void broadcastModifyingQueries() {
+    assertEquals(1, countryRepository.renameByCode("DE", "Deutschland"));
+    assertEquals(1, countryRepository.deleteByCodeNative("DE"));
+
+    assertEquals(2, sent.size());
+    for (List<CacheInvalidation> batch : sent) {
+      assertEquals(1, batch.size());
+      assertEquals(Country.class.getName(), batch.get(0).getEntityType());
+      assertTrue(batch.get(0).isAll());
+    }
+  }
+
+  @Test
+  public void applyReceivedCacheInvalidations() {
+    countryRepository.findById(country.getId());
+    assertNotNull(ebeanServer.getServerCacheManager().getBeanCache(Country.class).get(country.getId()));
+
+    transport.send(Collections.singletonList(CacheInvalidation.of(Country.class,
+        Collections.singleton(country.getId()))));
+    assertNull(ebeanServer.getServerCacheManager().getBeanCache(Country.class).get(country.getId()));
+  }
+
+  @Test
+  public void sendInvalidationsInBatches() {
+    LoopbackCacheInvalidationTransport batchTransport = new LoopbackCacheInvalidationTransport();
+    CacheInvalidationBroadcaster broadcaster = new CacheInvalidationBroadcaster(ebeanServer, batchTransport);
+    List<List<CacheInvalidation>> batches = new ArrayList<>();
+    batchTransport.subscribe(batches::add);
+    broadcaster.setBatchSize(2);
+
+    broadcaster.invalidate(Country.class, Arrays.asList(1L, 2L, 3L, 4L, 5L));
+    broadcaster.destroy();
+
+    assertEquals(3, batches.size());
+    assertEquals(Arrays.asList(1L, 2L), batches.get(0).get(0).getIds());
+    assertEquals(Arrays.asList(3L, 4L), batches.get(1).get(0).getIds());
+    assertEquals(Collections.singletonList(5L), batches.get(2).get(0).getIds());
+  }
+
+  @Test
+  public void invalidatePeerCaches() {
+    EbeanServer peer = createPeer();
+    CacheInvalidationBroadcaster peerBroadcaster = new CacheInvalidationBroadcaster(peer, transport);
+    try {
+      assertEquals("Germany", peer.find(Country.class, country.getId()).getName());
+      assertNotNull(peer.getServerCacheManager().getBeanCache(Country.class).get(country.getId()));
+
+      country.setName("Deutschland");
+      countryRepository.save(country);
+      assertNull(peer.getServerCacheManager().getBeanCache(Country.class).get(country.getId()));
+      assertEquals("Deutschland", peer.find(Country.class, country.getId()).getName());
+    } finally {
+      peerBroadcaster.destroy();
+      peer.shutdown(false, false);
+    }
+  }
+
+  private EbeanServer createPeer() {
+    ServerConfig config = new ServerConfig();
+    config.setName("peer");
+    config.setDataSource(dataSource);
+    config.setExternalTransactionManager(new SpringJdbcTransactionManager());
+
+    config.loadFromProperties();
+    config.setDdlGenerate(false);
+    config.setDdlRun(false);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setAutoCommitMode(false);
+    config.setCurrentUserProvider(() -> "test");
+
+    return EbeanServerFactory.create(config);
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = CountryRepository.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CountryRepository.class),
+      cacheInvalidationBroadcasterRef = "cacheInvalidationBroadcaster")
+  static class Config {
+
+    @Bean
+    public CacheInvalidationTransport cacheInvalidationTransport() {
+      return new LoopbackCacheInvalidationTransport();
+    }
+
+    @Bean
+    public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(EbeanServer ebeanServer,
+                                                                     CacheInvalidationTransport transport) {
+      return new CacheInvalidationBroadcaster(ebeanServer, transport);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Xuegui Yuan
@@ -135,4 +136,14 @@ public class EbeanQueryChannelServiceIntegrationTest {
     assertEquals("testquerychannel@163.com", userInfo.getEmailAddress());
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void readOnly() {
+    QueryChannelService readOnlyChannel = queryChannel.readOnly();
+    assertSame(readOnlyChannel, readOnlyChannel.readOnly());
+    User readOnlyUser = readOnlyChannel.createQuery(User.class)
+        .where().eq("emailAddress", "testquerychannel@163.com").findOne();
+    assertEquals("QueryChannel", readOnlyUser.getFullName().getFirstName());
+    readOnlyUser.setAge(30);
+  }
+
 }
\ No newline at end of file
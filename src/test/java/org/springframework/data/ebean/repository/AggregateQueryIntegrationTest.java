@@ -0,0 +1,83 @@
+package org.springframework.data.ebean.repository;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.sample.config.SampleConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.UserAggregateRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods returning scalars, primitive arrays and derived aggregates.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = SampleConfig.class)
+public class AggregateQueryIntegrationTest {
+
+  @Autowired
+  UserAggregateRepository aggregateRepository;
+
+  // Test fixture
+  User user;
+
+  @Before
+  public void setUp() throws Exception {
+    aggregateRepository.deleteAll();
+    user = new User("Xuegui", "Yuan", "yuanxuegui@163.com");
+    user.setAge(29);
+    user = aggregateRepository.save(user);
+  }
+
+  @Test
+  public void scalarQueries() {
+    assertArrayEquals(new long[]{user.getId()}, aggregateRepository.findIdsByAgeNative(29));
+    assertEquals(1L, aggregateRepository.countByAgeNative(29));
+    assertEquals(Collections.singleton("yuanxuegui@163.com"), aggregateRepository.findEmailAddressesByAgeNative(29));
+    assertEquals(Collections.singletonList("yuanxuegui@163.com"), aggregateRepository.findEmailAddressesByLastNameOql("Yuan"));
+  }
+
+  @Test
+  public void primitiveArrayQueries() {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      users.add(new User("Array", "Builder", "array" + i + "@163.com"));
+    }
+    users.forEach(u -> u.setAge(30));
+    aggregateRepository.saveAll(users);
+
+    int[] ages = aggregateRepository.findAgesByLastNameOql("Builder");
+    assertEquals(100, ages.length);
+    assertTrue(Arrays.stream(ages).allMatch(age -> age == 30));
+    double[] nativeAges = aggregateRepository.findAgesByLastNameNative("Builder");
+    assertEquals(100, nativeAges.length);
+    assertTrue(Arrays.stream(nativeAges).allMatch(age -> age == 30D));
+  }
+
+  @Test
+  public void derivedCountAndAggregates() {
+    User u = new User("Xuegui", "Yuan", "yuanxuegui@126.com");
+    u.setAge(31);
+    aggregateRepository.save(u);
+
+    assertEquals(2L, aggregateRepository.countByFullNameLastName("Yuan"));
+    assertEquals(Integer.valueOf(31), aggregateRepository.maxAgeByFullNameLastName("Yuan"));
+    assertEquals(60L, aggregateRepository.sumAgeByFullNameLastName("Yuan"));
+    assertEquals(30.0, aggregateRepository.avgAgeByFullNameLastName("Yuan"), 0.001);
+    assertEquals(29, aggregateRepository.minAgeByFullNameLastName("Yuan"));
+    assertEquals(0L, aggregateRepository.countByFullNameLastName("None"));
+    assertNull(aggregateRepository.maxAgeByFullNameLastName("None"));
+    assertEquals(0, aggregateRepository.minAgeByFullNameLastName("None"));
+  }
+}
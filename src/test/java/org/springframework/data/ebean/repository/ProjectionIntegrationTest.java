@@ -0,0 +1,99 @@
+package org.springframework.data.ebean.repository;
+
+import io.ebean.bean.EntityBean;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.sample.config.SampleConfig;
+import org.springframework.data.ebean.sample.domain.EmailAddressOnly;
+import org.springframework.data.ebean.sample.domain.Role;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.UserProjectionRepository;
+import org.springframework.data.ebean.sample.domain.UserSummary;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods returning interface, DTO and dynamic projections or other entities.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = SampleConfig.class)
+public class ProjectionIntegrationTest {
+
+  @Autowired
+  UserProjectionRepository projectionRepository;
+
+  // Test fixture
+  User user;
+
+  @Before
+  public void setUp() throws Exception {
+    projectionRepository.deleteAll();
+    user = new User("Xuegui", "Yuan", "yuanxuegui@163.com");
+    user.setAge(29);
+    user = projectionRepository.save(user);
+  }
+
+  @Test
+  public void findByFullNameLastName_interfaceProjection() {
+    List<EmailAddressOnly> result = projectionRepository.findByFullNameLastName("Yuan");
+    assertEquals(1, result.size());
+    assertEquals("yuanxuegui@163.com", result.get(0).getEmailAddress());
+    assertEquals(29, result.get(0).getAge());
+  }
+
+  @Test
+  public void findSummaryByAge_dtoProjection() {
+    List<UserSummary> result = projectionRepository.findSummaryByAge(29);
+    assertEquals(1, result.size());
+    assertEquals("Xuegui", result.get(0).getFirstName());
+    assertEquals("yuanxuegui@163.com", result.get(0).getEmailAddress());
+  }
+
+  @Test
+  public void findByEmailAddressOql_dynamicProjection() {
+    EmailAddressOnly emailAddressOnly = projectionRepository.findByEmailAddressOql("yuanxuegui@163.com", EmailAddressOnly.class);
+    assertEquals(29, emailAddressOnly.getAge());
+    UserSummary summary = projectionRepository.findByEmailAddressOql("yuanxuegui@163.com", UserSummary.class);
+    assertEquals("Xuegui", summary.getFirstName());
+    User u = projectionRepository.findByEmailAddressOql("yuanxuegui@163.com", User.class);
+    assertEquals(user, u);
+  }
+
+  @Test
+  public void findSummariesByLastNameNative_dtoQuery() {
+    List<UserSummary> result = projectionRepository.findSummariesByLastNameNative("Yuan");
+    assertEquals(1, result.size());
+    assertEquals("Xuegui", result.get(0).getFirstName());
+    assertEquals("yuanxuegui@163.com", result.get(0).getEmailAddress());
+    assertEquals(29, result.get(0).getAge());
+  }
+
+  @Test
+  public void findRolesByNameOql_otherEntity() {
+    Role role = new Role("oql");
+    projectionRepository.db().save(role);
+    List<Role> roles = projectionRepository.findRolesByNameOql("oql");
+    assertEquals(1, roles.size());
+    assertTrue(roles.get(0) instanceof EntityBean);
+    assertEquals(role.getId(), roles.get(0).getId());
+  }
+
+  @Test
+  public void findRolesByNameNative_otherEntity() {
+    Role role = new Role("native");
+    projectionRepository.db().save(role);
+    List<Role> roles = projectionRepository.findRolesByNameNative("native");
+    assertEquals(1, roles.size());
+    assertTrue(roles.get(0) instanceof EntityBean);
+    assertEquals(role.getId(), roles.get(0).getId());
+    assertEquals("native", roles.get(0).getName());
+  }
+}
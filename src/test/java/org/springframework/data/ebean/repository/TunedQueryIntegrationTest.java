@@ -0,0 +1,145 @@
+package org.springframework.data.ebean.repository;
+
+import io.ebean.bean.PersistenceContext;
+import io.ebeaninternal.api.SpiTransaction;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.ebean.repository.query.QueryBulkhead;
+import org.springframework.data.ebean.repository.support.EbeanRepositoryFactoryBean;
+import org.springframework.data.ebean.sample.config.SampleConfig;
+import org.springframework.data.ebean.sample.domain.TunedUserRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods with concurrency limits, hints and persistence context scopes.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = SampleConfig.class)
+public class TunedQueryIntegrationTest {
+
+  @Autowired
+  TunedUserRepository tunedRepository;
+
+  @Autowired
+  ConfigurableApplicationContext applicationContext;
+
+  // Test fixture
+  User user;
+
+  @Before
+  public void setUp() throws Exception {
+    tunedRepository.deleteAll();
+    user = new User("Xuegui", "Yuan", "yuanxuegui@163.com");
+    user.setAge(29);
+    user = tunedRepository.save(user);
+  }
+
+  @Test
+  public void concurrencyLimit() {
+    QueryBulkhead bulkhead = applicationContext.getBean("&tunedUserRepository", EbeanRepositoryFactoryBean.class)
+        .getQueryBulkheads().getBulkheads().stream()
+        .filter(candidate -> candidate.getName().equals("TunedUserRepository.findLimitedByFullNameLastName"))
+        .findFirst().get();
+    assertEquals(1, tunedRepository.findLimitedByFullNameLastName("Yuan").size());
+
+    long rejected = bulkhead.getRejectedCalls();
+    bulkhead.acquire();
+    try {
+      tunedRepository.findLimitedByFullNameLastName("Yuan");
+      fail();
+    } catch (TransientDataAccessResourceException e) {
+      assertEquals(rejected + 1, bulkhead.getRejectedCalls());
+    } finally {
+      bulkhead.release();
+    }
+    assertEquals(0, bulkhead.getActiveCalls());
+    assertEquals(1, tunedRepository.findLimitedByFullNameLastName("Yuan").size());
+  }
+
+  @Test
+  public void concurrencyLimitHeldUntilStreamClosed() {
+    QueryBulkhead bulkhead = applicationContext.getBean("&tunedUserRepository", EbeanRepositoryFactoryBean.class)
+        .getQueryBulkheads().getBulkheads().stream()
+        .filter(candidate -> candidate.getName().equals("TunedUserRepository.streamLimitedByFullNameLastName"))
+        .findFirst().get();
+
+    TransactionTemplate transaction = new TransactionTemplate(
+        applicationContext.getBean(PlatformTransactionManager.class));
+    transaction.setReadOnly(true);
+    transaction.execute(status -> {
+      try (Stream<User> stream = tunedRepository.streamLimitedByFullNameLastName("Yuan")) {
+        assertEquals(1, bulkhead.getActiveCalls());
+        try {
+          tunedRepository.streamLimitedByFullNameLastName("Yuan");
+          fail();
+        } catch (TransientDataAccessResourceException e) {
+          assertEquals(1, bulkhead.getActiveCalls());
+        }
+        assertEquals(1, stream.count());
+      }
+      assertEquals(0, bulkhead.getActiveCalls());
+      return null;
+    });
+  }
+
+  @Test
+  public void streamAllRows() {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      users.add(new User("test" + i, "Yuan", "test" + i + "@163.com"));
+    }
+    tunedRepository.saveAll(users);
+
+    TransactionTemplate transaction = new TransactionTemplate(
+        applicationContext.getBean(PlatformTransactionManager.class));
+    transaction.setReadOnly(true);
+    long count = transaction.execute(status -> {
+      try (Stream<User> stream = tunedRepository.streamByFullNameLastName("Yuan")) {
+        return stream.count();
+      }
+    });
+    assertEquals(6, count);
+  }
+
+  @Test
+  public void persistenceContextScope() {
+    TransactionTemplate transaction = new TransactionTemplate(
+        applicationContext.getBean(PlatformTransactionManager.class));
+    transaction.execute(status -> {
+      PersistenceContext persistenceContext =
+          ((SpiTransaction) tunedRepository.db().currentTransaction()).getPersistenceContext();
+      assertEquals(1, tunedRepository.findScopedByFullNameLastName("Yuan").size());
+      assertEquals(0, persistenceContext.size(User.class));
+      try (Stream<User> stream = tunedRepository.streamByFullNameLastName("Yuan")) {
+        assertEquals(1, stream.count());
+      }
+      assertEquals(0, persistenceContext.size(User.class));
+      assertEquals(1, tunedRepository.findHintedByFullNameLastName("Yuan").size());
+      assertEquals(1, persistenceContext.size(User.class));
+      return null;
+    });
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void findReadOnly() {
+    List<User> users = tunedRepository.findReadOnlyByFullNameLastName("Yuan");
+    assertEquals(1, users.size());
+    users.get(0).setAge(30);
+  }
+}
@@ -0,0 +1,92 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods executed asynchronously on the configured query executor.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = AsyncQueryIntegrationTest.Config.class)
+public class AsyncQueryIntegrationTest {
+
+  @Autowired
+  AsyncUserRepository repository;
+
+  @Autowired
+  ExecutorService queryExecutor;
+
+  User user;
+
+  @Before
+  public void setUp() {
+    repository.deleteAll();
+    user = repository.save(new User("Xuegui", "Yuan", "yuanxuegui@163.com"));
+  }
+
+  @Test
+  public void findAsync() throws Exception {
+    CompletableFuture<List<User>> users = repository.findAsyncByLastName("Yuan");
+    assertEquals(Collections.singletonList(user), users.get());
+
+    assertEquals(user, repository.findAsyncByEmailAddress("yuanxuegui@163.com").get().get());
+    assertFalse(repository.findAsyncByEmailAddress("unknown@163.com").get().isPresent());
+  }
+
+  @Test
+  public void cancelAsyncQuery() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Future<?>> blockers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      blockers.add(queryExecutor.submit(() -> {
+        latch.await();
+        return null;
+      }));
+    }
+    CompletableFuture<List<User>> users = repository.findAsyncByLastName("Yuan");
+    assertTrue(users.cancel(true));
+    latch.countDown();
+    for (Future<?> blocker : blockers) {
+      blocker.get(10, TimeUnit.SECONDS);
+    }
+    assertTrue(users.isCancelled());
+    assertEquals(1, repository.findAsyncByLastName("Yuan").get(10, TimeUnit.SECONDS).size());
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = AsyncQueryIntegrationTest.class, queryExecutorRef = "queryExecutor",
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = AsyncUserRepository.class))
+  static class Config {
+    @Bean(destroyMethod = "shutdown")
+    ExecutorService queryExecutor() {
+      return Executors.newFixedThreadPool(4);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Repository declaring query methods executed asynchronously.
+ *
+ * @author Xuegui Yuan
+ */
+public interface AsyncUserRepository extends EbeanRepository<User, Long> {
+
+  @Query("where fullName.lastName = :lastName")
+  CompletableFuture<List<User>> findAsyncByLastName(@Param("lastName") String lastName);
+
+  @Query("where emailAddress = :emailAddress")
+  CompletableFuture<Optional<User>> findAsyncByEmailAddress(@Param("emailAddress") String emailAddress);
+}
@@ -0,0 +1,32 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.annotation.QueryHints;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository declaring query methods with and without {@link QueryHints}.
+ *
+ * @author Xuegui Yuan
+ */
+public interface HintedUserRepository extends EbeanRepository<User, Long> {
+
+  @Query("where emailAddress = :emailAddress")
+  @QueryHints(timeout = 5)
+  List<User> findHintedByEmailAddress(@Param("emailAddress") String emailAddress);
+
+  @Query("where emailAddress = :emailAddress")
+  List<User> findByEmailAddressOql(@Param("emailAddress") String emailAddress);
+
+  @Query("where emailAddress = :emailAddress")
+  @QueryHints(fetchSize = 2)
+  Stream<User> streamHintedByEmailAddress(@Param("emailAddress") String emailAddress);
+
+  @Query("where emailAddress = :emailAddress")
+  Stream<User> streamByEmailAddressOql(@Param("emailAddress") String emailAddress);
+}
@@ -0,0 +1,40 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Article;
+
+/**
+ * Repository declaring native query methods returning arrays of each primitive type.
+ *
+ * @author Xuegui Yuan
+ */
+public interface PrimitiveArrayArticleRepository extends EbeanRepository<Article, Long> {
+
+  @Query(nativeQuery = true, value = "select cast(version as bigint) from article order by id")
+  long[] findVersionsAsLongs();
+
+  @Query(nativeQuery = true, value = "select version from article order by id")
+  int[] findVersionsAsInts();
+
+  @Query(nativeQuery = true, value = "select cast(version as double) / 2 from article order by id")
+  double[] findHalfVersionsAsDoubles();
+
+  @Query(nativeQuery = true, value = "select cast(version as real) / 2 from article order by id")
+  float[] findHalfVersionsAsFloats();
+
+  @Query(nativeQuery = true, value = "select cast(version as smallint) from article order by id")
+  short[] findVersionsAsShorts();
+
+  @Query(nativeQuery = true, value = "select cast(version as tinyint) from article order by id")
+  byte[] findVersionsAsBytes();
+
+  @Query(nativeQuery = true, value = "select title like 'a%' from article order by id")
+  boolean[] findTitleStartsWithA();
+
+  @Query(nativeQuery = true, value = "select substring(title, 1, 1) from article order by id")
+  char[] findTitleInitials();
+
+  @Query(nativeQuery = true, value = "select cast(null as int) from article order by id")
+  int[] findNulls();
+}
@@ -0,0 +1,66 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods returning arrays of each primitive type.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = PrimitiveArrayQueryIntegrationTest.Config.class)
+public class PrimitiveArrayQueryIntegrationTest {
+
+  @Autowired
+  PrimitiveArrayArticleRepository repository;
+
+  @Before
+  public void setUp() {
+    repository.deleteAll();
+    repository.saveAll(Arrays.asList(new Article("alpha"), new Article("beta"), new Article("gamma")));
+  }
+
+  @Test
+  public void numericArrays() {
+    assertArrayEquals(new long[]{1, 1, 1}, repository.findVersionsAsLongs());
+    assertArrayEquals(new int[]{1, 1, 1}, repository.findVersionsAsInts());
+    assertArrayEquals(new double[]{0.5, 0.5, 0.5}, repository.findHalfVersionsAsDoubles(), 0);
+    assertArrayEquals(new float[]{0.5F, 0.5F, 0.5F}, repository.findHalfVersionsAsFloats(), 0);
+    assertArrayEquals(new short[]{1, 1, 1}, repository.findVersionsAsShorts());
+    assertArrayEquals(new byte[]{1, 1, 1}, repository.findVersionsAsBytes());
+  }
+
+  @Test
+  public void booleanAndCharArrays() {
+    assertArrayEquals(new boolean[]{true, false, false}, repository.findTitleStartsWithA());
+    assertArrayEquals(new char[]{'a', 'b', 'g'}, repository.findTitleInitials());
+  }
+
+  @Test
+  public void nullsReadAsDefaultValues() {
+    assertArrayEquals(new int[3], repository.findNulls());
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = PrimitiveArrayQueryIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PrimitiveArrayArticleRepository.class))
+  static class Config {
+  }
+}
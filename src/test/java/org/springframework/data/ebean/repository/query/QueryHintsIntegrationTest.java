@@ -0,0 +1,103 @@
+package org.springframework.data.ebean.repository.query;
+
+import io.ebean.EbeanServer;
+import io.ebeaninternal.api.SpiQuery;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the hints and the cancellation of the queries created by query methods.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = StandaloneEbeanConfig.class)
+public class QueryHintsIntegrationTest {
+
+  @Autowired
+  EbeanServer ebeanServer;
+
+  @Test
+  public void findWithQueryHints() throws Exception {
+    DefaultQueryHints defaults = DefaultQueryHints.NONE.withTimeout(30);
+
+    assertEquals(5, createQuery("findHintedByEmailAddress", defaults).getTimeout());
+    assertEquals(30, createQuery("findByEmailAddressOql", defaults).getTimeout());
+    assertEquals(0, createQuery("findByEmailAddressOql", DefaultQueryHints.NONE).getTimeout());
+  }
+
+  @Test
+  public void streamWithFetchSize() throws Exception {
+    DefaultQueryHints defaults = DefaultQueryHints.NONE.withFetchSize(100);
+
+    assertEquals(2, createQuery("streamHintedByEmailAddress", defaults).getBufferFetchSizeHint());
+    assertEquals(100, createQuery("streamByEmailAddressOql", defaults).getBufferFetchSizeHint());
+    assertEquals(0, createQuery("streamByEmailAddressOql", DefaultQueryHints.NONE).getBufferFetchSizeHint());
+  }
+
+  @Test
+  public void cancelQueryNotRunning() {
+    ebeanServer.save(new Article("pending"));
+    EbeanQueryWrapper query = EbeanQueryWrapper.ofEbeanQuery(ebeanServer.find(Article.class));
+
+    QueryCancellation cancellation = new QueryCancellation();
+    cancellation.cancel();
+    cancellation.bind();
+    try {
+      QueryCancellation.register(query);
+    } finally {
+      cancellation.unbind();
+    }
+
+    assertNull(query.findList());
+    assertTrue(cancellation.isCancelled());
+  }
+
+  @Test
+  public void cancelStreamingQuery() {
+    for (int i = 0; i < 3; i++) {
+      ebeanServer.save(new Article("streamed" + i));
+    }
+    EbeanQueryWrapper query = EbeanQueryWrapper.ofEbeanQuery(ebeanServer.find(Article.class));
+
+    QueryCancellation cancellation = new QueryCancellation();
+    cancellation.bind();
+    try (Stream<Article> articles = query.findStream()) {
+      QueryCancellation.register(query);
+      Iterator<Article> iterator = articles.iterator();
+      assertTrue(iterator.hasNext());
+      iterator.next();
+
+      cancellation.cancel();
+      assertFalse(iterator.hasNext());
+    } finally {
+      cancellation.unbind();
+    }
+  }
+
+  private SpiQuery<?> createQuery(String methodName, DefaultQueryHints defaults) throws Exception {
+    QueryLookupStrategy strategy = EbeanQueryLookupStrategy.create(ebeanServer, null,
+        QueryMethodEvaluationContextProvider.DEFAULT, false, false, null, null, null, null, defaults);
+    AbstractEbeanQuery query = (AbstractEbeanQuery) strategy.resolveQuery(
+        HintedUserRepository.class.getMethod(methodName, String.class),
+        new DefaultRepositoryMetadata(HintedUserRepository.class), new SpelAwareProxyProjectionFactory(),
+        new PropertiesBasedNamedQueries(new Properties()));
+    return (SpiQuery<?>) query.createQuery(new Object[]{"yuanxuegui@163.com"}).getQueryInstance();
+  }
+}
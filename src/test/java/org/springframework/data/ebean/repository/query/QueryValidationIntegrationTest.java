@@ -0,0 +1,106 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.junit.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the query methods failing the startup, each booting a context of its own.
+ *
+ * @author Xuegui Yuan
+ */
+public class QueryValidationIntegrationTest {
+
+  @Test
+  public void unknownPropertyFailsStartup() {
+    InvalidEbeanQueryMethodException e = startupFailure(UnknownPropertyConfig.class);
+    assertThat(e.getMessage(), containsString("where nickname = :nickname"));
+    assertThat(e.getMessage(), containsString("findByNicknameOql"));
+    assertThat(e.getMessage(), containsString("references unknown properties [nickname]"));
+  }
+
+  @Test
+  public void malformedQueryFailsStartup() {
+    InvalidEbeanQueryMethodException e = startupFailure(MalformedQueryConfig.class);
+    assertThat(e.getMessage(), containsString("Invalid query 'where emailAddress = = :emailAddress'"));
+    assertThat(e.getMessage(), containsString("findByEmailAddressOql"));
+  }
+
+  @Test
+  public void streamedDtoFailsStartup() {
+    InvalidEbeanQueryMethodException e = startupFailure(StreamedDtoConfig.class);
+    assertThat(e.getMessage(), containsString("streamSummaryByAge"));
+    assertThat(e.getMessage(), containsString("only entities and interface projections are streamed"));
+  }
+
+  @Test
+  public void validQueriesStartWithValidation() {
+    new AnnotationConfigApplicationContext(ValidConfig.class).close();
+  }
+
+  @Test
+  public void invalidQueryStartsWithoutValidation() {
+    new AnnotationConfigApplicationContext(UnvalidatedConfig.class).close();
+  }
+
+  private static InvalidEbeanQueryMethodException startupFailure(Class<?> configClass) {
+    try {
+      new AnnotationConfigApplicationContext(configClass).close();
+    } catch (BeanCreationException e) {
+      Throwable cause = e;
+      while (cause != null && !(cause instanceof InvalidEbeanQueryMethodException)) {
+        cause = cause.getCause();
+      }
+      assertNotNull("Startup failed for another reason: " + NestedExceptionUtils.getMostSpecificCause(e), cause);
+      return (InvalidEbeanQueryMethodException) cause;
+    }
+    fail("The startup must fail on the invalid query");
+    return null;
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryValidationIntegrationTest.class, validateQueries = true,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UnknownPropertyQueryUserRepository.class))
+  static class UnknownPropertyConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryValidationIntegrationTest.class, validateQueries = true,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MalformedQueryUserRepository.class))
+  static class MalformedQueryConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryValidationIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = StreamedDtoUserRepository.class))
+  static class StreamedDtoConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryValidationIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UnknownPropertyQueryUserRepository.class))
+  static class UnvalidatedConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryValidationIntegrationTest.class, validateQueries = true,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {HintedUserRepository.class,
+          AsyncUserRepository.class}))
+  static class ValidConfig {
+  }
+}
@@ -0,0 +1,17 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.UserSummary;
+import org.springframework.data.repository.query.Param;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository declaring a query method streaming DTOs.
+ *
+ * @author Xuegui Yuan
+ */
+public interface StreamedDtoUserRepository extends EbeanRepository<User, Long> {
+  Stream<UserSummary> streamSummaryByAge(@Param("age") int age);
+}
@@ -0,0 +1,18 @@
+package org.springframework.data.ebean.repository.query;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository declaring a query on an unknown property.
+ *
+ * @author Xuegui Yuan
+ */
+public interface UnknownPropertyQueryUserRepository extends EbeanRepository<User, Long> {
+  @Query("where nickname = :nickname")
+  List<User> findByNicknameOql(@Param("nickname") String nickname);
+}
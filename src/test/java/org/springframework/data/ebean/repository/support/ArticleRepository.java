@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Article;
+
+/**
+ * Repository of the versioned {@link Article}.
+ *
+ * @author Xuegui Yuan
+ */
+public interface ArticleRepository extends EbeanRepository<Article, Long> {
+}
@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+
+/**
+ * Repository of the {@link User}s written by the bulk operations.
+ *
+ * @author Xuegui Yuan
+ */
+public interface BulkUserRepository extends EbeanRepository<User, Long> {
+}
@@ -0,0 +1,251 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.ebean.sample.domain.Voucher;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the upserts, bulk inserts and updates and deletes by id of {@link SimpleEbeanRepository}.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = BulkWriteIntegrationTest.Config.class)
+public class BulkWriteIntegrationTest {
+
+  @Autowired
+  BulkUserRepository userRepository;
+
+  @Autowired
+  ArticleRepository articleRepository;
+
+  @Autowired
+  VoucherRepository voucherRepository;
+
+  User manager;
+
+  @Before
+  public void setUp() {
+    userRepository.deleteAll();
+    articleRepository.deleteAll();
+    voucherRepository.deleteAll();
+    manager = userRepository.save(new User("manager", "manager", "manager@163.com"));
+  }
+
+  @Test
+  public void upsert() {
+    User u = new User("upsert", "upsert", "upsert@163.com");
+    u.setId(1000L);
+    u.setManager(manager);
+    userRepository.upsert(u);
+    User inserted = userRepository.findById(1000L).get();
+    assertEquals("upsert@163.com", inserted.getEmailAddress());
+    assertEquals(manager, inserted.getManager());
+
+    User changed = new User("upsert", "changed", "changed@163.com");
+    changed.setId(1000L);
+    userRepository.upsert(changed);
+    User updated = userRepository.findById(1000L).get();
+    assertEquals("changed", updated.getFullName().getLastName());
+    assertEquals(inserted.getCreatedDate(), updated.getCreatedDate());
+    assertNull(updated.getManager());
+    assertFalse(changed.getCreatedDate().isPresent());
+    assertTrue(changed.getLastModifiedDate().isPresent());
+  }
+
+  @Test
+  public void upsertAll() {
+    long count = userRepository.count();
+    List<User> users = new ArrayList<>();
+    for (long id = 2000; id < 2003; id++) {
+      User u = new User("upsert" + id, "upsert", "upsert" + id + "@163.com");
+      u.setId(id);
+      users.add(u);
+    }
+    userRepository.upsertAll(users);
+    users.get(0).setAge(30);
+    userRepository.upsertAll(users);
+    assertEquals(count + 3, userRepository.count());
+    assertEquals(30, userRepository.findById(2000L).get().getAge());
+  }
+
+  @Test
+  public void saveAfterUpsert() {
+    User user = new User("upsert", "upsert", "upsert@163.com");
+    user.setId(7001L);
+    userRepository.upsert(user);
+
+    user.setAge(42);
+    userRepository.save(user);
+    assertEquals(2, userRepository.count());
+    assertEquals(42, userRepository.findById(7001L).get().getAge());
+  }
+
+  @Test
+  public void saveVersionedAfterUpsert() {
+    Article article = new Article("draft");
+    article.setId(7002L);
+    articleRepository.upsert(article);
+    long version = articleRepository.findById(7002L).get().getVersion();
+
+    article.setTitle("published");
+    articleRepository.save(article);
+    Article updated = articleRepository.findById(7002L).get();
+    assertEquals("published", updated.getTitle());
+    assertEquals(version + 1, updated.getVersion());
+  }
+
+  @Test
+  public void insertBulk() {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      User u = new User("bulk" + i, "bulk", "bulk" + i + "@163.com");
+      u.setManager(manager);
+      users.add(u);
+    }
+    users.get(0).setId(3000L);
+    assertEquals(5, userRepository.insertBulk(users));
+    assertEquals(6, userRepository.count());
+    assertNull(users.get(1).getId());
+    assertTrue(users.get(1).getCreatedDate().isPresent());
+    assertEquals(users.get(1).getCreatedDate(), users.get(4).getCreatedDate());
+
+    User inserted = userRepository.findById(3000L).get();
+    assertEquals("bulk0@163.com", inserted.getEmailAddress());
+    assertEquals(manager, inserted.getManager());
+  }
+
+  @Test
+  public void insertBulkFetchingGeneratedIds() {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      users.add(new User("bulk" + i, "bulk", "bulk" + i + "@163.com"));
+    }
+    assertEquals(3, userRepository.insertBulk(users, true));
+    assertEquals(3, users.stream().map(User::getId).distinct().filter(Objects::nonNull).count());
+    assertEquals("bulk1@163.com", userRepository.findById(users.get(1).getId()).get().getEmailAddress());
+  }
+
+  @Test
+  public void insertBulkDrawsSequenceIds() {
+    List<Voucher> vouchers = Arrays.asList(new Voucher("A"), new Voucher("B"), new Voucher("C"));
+    assertEquals(3, voucherRepository.insertBulk(vouchers));
+    assertEquals(3, vouchers.stream().map(Voucher::getId).distinct().filter(Objects::nonNull).count());
+    assertEquals("B", voucherRepository.findById(vouchers.get(1).getId()).get().getCode());
+  }
+
+  @Test
+  public void saveAfterInsertBulk() {
+    User user = new User("bulk", "bulk", "bulk@163.com");
+    user.setId(7000L);
+    userRepository.insertBulk(Collections.singletonList(user));
+
+    user.setAge(42);
+    userRepository.save(user);
+    assertEquals(2, userRepository.count());
+    assertEquals(42, userRepository.findById(7000L).get().getAge());
+
+    Voucher voucher = new Voucher("A");
+    voucherRepository.insertBulk(Collections.singletonList(voucher));
+    voucher.setCode("B");
+    voucherRepository.save(voucher);
+    assertEquals(1, voucherRepository.count());
+    assertEquals("B", voucherRepository.findById(voucher.getId()).get().getCode());
+  }
+
+  @Test
+  public void updateById() {
+    assertEquals(1, userRepository.updateById(manager.getId(), Collections.singletonMap("age", 42)));
+    assertEquals(0, userRepository.updateById(-1L, Collections.singletonMap("age", 42)));
+    assertEquals(42, userRepository.findById(manager.getId()).get().getAge());
+
+    User u = new User("partial", "partial", "partial@163.com");
+    userRepository.save(u);
+    assertEquals(2, userRepository.updateAllById(Arrays.asList(manager.getId(), u.getId()),
+        Collections.singletonMap("age", 7)));
+    assertEquals(7, userRepository.findById(manager.getId()).get().getAge());
+    assertEquals(7, userRepository.findById(u.getId()).get().getAge());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void updateByIdWithVersionRequiresVersionProperty() {
+    userRepository.updateById(manager.getId(), 1, Collections.singletonMap("age", 42));
+  }
+
+  @Test
+  public void deleteAllById() {
+    List<Long> ids = new ArrayList<>();
+    ids.add(manager.getId());
+    for (int i = 0; i < 3; i++) {
+      ids.add(userRepository.save(new User("delete", "delete", "delete" + i + "@163.com")).getId());
+    }
+    User kept = userRepository.save(new User("kept", "kept", "kept@163.com"));
+    ids.add(-1L);
+
+    SimpleEbeanRepository<?, ?> repository = AopTestUtils.getUltimateTargetObject(userRepository);
+    repository.setDeleteChunkSize(2);
+    repository.setDeleteChunkPause(1);
+    try {
+      assertEquals(4, userRepository.deleteAllById(ids));
+    } finally {
+      repository.setDeleteChunkSize(1000);
+      repository.setDeleteChunkPause(0);
+    }
+    assertEquals(1, userRepository.count());
+    assertTrue(userRepository.existsById(kept.getId()));
+    assertEquals(1, userRepository.deletePermanentAllById(Collections.singletonList(kept.getId())));
+    assertEquals(0, userRepository.count());
+  }
+
+  @Test
+  public void deleteAllInChunks() {
+    for (int i = 0; i < 4; i++) {
+      userRepository.save(new User("purge", "purge", "purge" + i + "@163.com"));
+    }
+    List<Long> lastIds = new ArrayList<>();
+    SimpleEbeanRepository<?, ?> repository = AopTestUtils.getUltimateTargetObject(userRepository);
+    repository.setDeleteChunkSize(2);
+    try {
+      userRepository.deleteAllInChunks(null, (lastId, deleted) -> {
+        lastIds.add(lastId);
+        throw new IllegalStateException("interrupted after " + deleted);
+      });
+      fail();
+    } catch (IllegalStateException e) {
+      assertEquals(3, userRepository.count());
+      assertEquals(3, userRepository.deletePermanentAllInChunks(lastIds.get(0), null));
+    } finally {
+      repository.setDeleteChunkSize(1000);
+    }
+    assertEquals(0, userRepository.count());
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = BulkWriteIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+          classes = {BulkUserRepository.class, ArticleRepository.class, VoucherRepository.class}))
+  static class Config {
+  }
+}
@@ -0,0 +1,180 @@
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.EbeanServer;
+import io.ebean.cache.ServerCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.annotation.Modifying;
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.annotation.WarmUp;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.data.ebean.sample.domain.Country;
+import org.springframework.data.repository.query.Param;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the {@link CacheWarmer} running the {@link WarmUp} queries of the repositories.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = CacheWarmUpIntegrationTest.Config.class)
+public class CacheWarmUpIntegrationTest {
+
+  @Autowired
+  ReferenceCountryRepository referenceCountryRepository;
+
+  @Autowired
+  PreferredCountryRepository preferredCountryRepository;
+
+  @Autowired
+  CacheWarmer cacheWarmer;
+
+  @Autowired
+  EbeanServer ebeanServer;
+
+  Country germany;
+
+  Country france;
+
+  ServerCache beanCache;
+
+  @Before
+  public void setUp() {
+    referenceCountryRepository.deleteAll();
+    germany = referenceCountryRepository.save(new Country("DE", "Germany"));
+    france = referenceCountryRepository.save(new Country("FR", "France"));
+    beanCache = ebeanServer.getServerCacheManager().getBeanCache(Country.class);
+    beanCache.clear();
+  }
+
+  @Test
+  public void warmUpRepositories() {
+    cacheWarmer.afterSingletonsInstantiated();
+
+    assertNotNull(beanCache.get(germany.getId()));
+    assertNotNull(beanCache.get(france.getId()));
+  }
+
+  @Test
+  public void noCacheWarmerWithoutWarmUp() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(NoWarmUpConfig.class)) {
+      assertFalse(context.containsBean("ebeanCacheWarmer"));
+    }
+  }
+
+  @Test
+  public void warmUpQueryMethod() {
+    List<Callable<Object>> queries = WarmUpQuery.of(PreferredCountryRepository.class,
+        () -> preferredCountryRepository, ebeanServer, Country.class);
+    assertEquals(1, queries.size());
+
+    cacheWarmer.warmUp(queries);
+    assertNotNull(beanCache.get(germany.getId()));
+    assertNull(beanCache.get(france.getId()));
+  }
+
+  @Test
+  public void abandonQueriesAfterDeadline() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Callable<Object> overdue = () -> {
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    };
+    Callable<Object> failing = () -> {
+      throw new IllegalStateException("warm-up failure");
+    };
+    CacheWarmer warmer = new CacheWarmer();
+    warmer.setWarmUpTimeout(100);
+
+    long start = System.currentTimeMillis();
+    warmer.warmUp(Arrays.asList(overdue, failing, () -> referenceCountryRepository.findAll()));
+    assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void rejectRepositoryOfUncachedEntity() {
+    WarmUpQuery.of(UncachedArticleRepository.class, () -> null, ebeanServer, Article.class);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void rejectQueryMethodWithParameters() {
+    WarmUpQuery.of(ParameterizedWarmUpRepository.class, () -> null, ebeanServer, Country.class);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void rejectStreamQueryMethod() {
+    WarmUpQuery.of(StreamWarmUpRepository.class, () -> null, ebeanServer, Country.class);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void rejectModifyingQueryMethod() {
+    WarmUpQuery.of(ModifyingWarmUpRepository.class, () -> null, ebeanServer, Country.class);
+  }
+
+  @WarmUp
+  interface UncachedArticleRepository extends EbeanRepository<Article, Long> {
+  }
+
+  interface ParameterizedWarmUpRepository extends EbeanRepository<Country, Long> {
+
+    @Query("where code = :code")
+    @WarmUp
+    List<Country> findByCodeOql(@Param("code") String code);
+  }
+
+  interface StreamWarmUpRepository extends EbeanRepository<Country, Long> {
+
+    @Query("where code = 'DE'")
+    @WarmUp
+    Stream<Country> streamPreferred();
+  }
+
+  interface ModifyingWarmUpRepository extends EbeanRepository<Country, Long> {
+
+    @Query("update country set name = 'Germany' where code = 'DE'")
+    @Modifying
+    @WarmUp
+    int renamePreferred();
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = CacheWarmUpIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+          classes = {ReferenceCountryRepository.class, PreferredCountryRepository.class}))
+  static class Config {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = CacheWarmUpIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CountryRepository.class))
+  static class NoWarmUpConfig {
+  }
+}
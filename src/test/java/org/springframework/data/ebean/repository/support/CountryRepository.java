@@ -0,0 +1,23 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.annotation.Modifying;
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Country;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository of the cached {@link Country}.
+ *
+ * @author Xuegui Yuan
+ */
+public interface CountryRepository extends EbeanRepository<Country, Long> {
+
+  @Query("update country set name = :name where code = :code")
+  @Modifying
+  int renameByCode(@Param("code") String code, @Param("name") String name);
+
+  @Query(nativeQuery = true, value = "delete from country where code = :code")
+  @Modifying
+  int deleteByCodeNative(@Param("code") String code);
+}
@@ -0,0 +1,81 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.data.ebean.domain.DomainEventBatch;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the {@link DomainEventBatch} published when saving several aggregates at once.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = DomainEventBatchIntegrationTest.Config.class)
+public class DomainEventBatchIntegrationTest {
+
+  @Autowired
+  EventUserRepository userRepository;
+
+  @Autowired
+  ConfigurableApplicationContext applicationContext;
+
+  @Before
+  public void setUp() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  public void saveAll_domainEventBatch() throws Exception {
+    List<DomainEventBatch> batches = new ArrayList<>();
+    ApplicationListener<DomainEventBatch> listener = new ApplicationListener<DomainEventBatch>() {
+      @Override
+      public void onApplicationEvent(DomainEventBatch event) {
+        batches.add(event);
+      }
+    };
+    applicationContext.addApplicationListener(listener);
+    try {
+      List<User> users = new ArrayList<>(3);
+      for (int i = 0; i < 3; i++) {
+        User u = new User("batch", "batch" + i, "batch" + i + "@163.com");
+        u.changeEmail("batch" + i + "@126.com");
+        users.add(u);
+      }
+      userRepository.saveAll(users);
+      assertEquals(1, batches.size());
+      assertEquals(User.class, batches.get(0).getAggregateType());
+      assertEquals(3, batches.get(0).getAggregateCount());
+      assertEquals(3, batches.get(0).getEvents().size());
+    } finally {
+      applicationContext.getBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME,
+          ApplicationEventMulticaster.class).removeApplicationListener(listener);
+    }
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = DomainEventBatchIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = EventUserRepository.class))
+  static class Config {
+  }
+}
@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+
+/**
+ * Repository of the {@link User}s publishing their domain events.
+ *
+ * @author Xuegui Yuan
+ */
+public interface EventUserRepository extends EbeanRepository<User, Long> {
+}
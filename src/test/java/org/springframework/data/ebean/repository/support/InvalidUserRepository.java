@@ -0,0 +1,16 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository declaring a query method on an unknown property.
+ *
+ * @author Xuegui Yuan
+ */
+public interface InvalidUserRepository extends EbeanRepository<User, Long> {
+  List<User> findByNickname(@Param("nickname") String nickname);
+}
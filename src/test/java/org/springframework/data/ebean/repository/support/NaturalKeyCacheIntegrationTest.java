@@ -0,0 +1,75 @@
+package org.springframework.data.ebean.repository.support;
+
+import io.ebean.cache.ServerCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Country;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of {@link SimpleEbeanRepository#findByProperty(String, Object)} looking up the natural key of a
+ * cached entity type.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = NaturalKeyCacheIntegrationTest.Config.class)
+public class NaturalKeyCacheIntegrationTest {
+
+  @Autowired
+  CountryRepository countryRepository;
+
+  Country country;
+
+  @Before
+  public void setUp() {
+    countryRepository.deleteAll();
+    country = countryRepository.save(new Country("DE", "Germany"));
+  }
+
+  @Test
+  public void findByNaturalKey() {
+    ServerCache naturalKeyCache = countryRepository.db().getServerCacheManager().getNaturalKeyCache(Country.class);
+    assertEquals(country.getId(), countryRepository.findByProperty("code", "DE").get().getId());
+    long hits = naturalKeyCache.getStatistics(false).getHitCount();
+    assertEquals(country.getId(), countryRepository.findByProperty("code", "DE").get().getId());
+    assertEquals(hits + 1, naturalKeyCache.getStatistics(false).getHitCount());
+
+    country.setCode("DEU");
+    countryRepository.save(country);
+    assertFalse(countryRepository.findByProperty("code", "DE").isPresent());
+    assertEquals(country.getId(), countryRepository.findByProperty("code", "DEU").get().getId());
+
+    countryRepository.updateById(country.getId(), Collections.singletonMap("code", "D"));
+    assertFalse(countryRepository.findByProperty("code", "DEU").isPresent());
+    assertEquals(country.getId(), countryRepository.findByProperty("code", "D").get().getId());
+
+    country.setCode("GER");
+    countryRepository.upsert(country);
+    assertFalse(countryRepository.findByProperty("code", "D").isPresent());
+    assertEquals(country.getId(), countryRepository.findByProperty("code", "GER").get().getId());
+
+    countryRepository.deleteAllById(Collections.singletonList(country.getId()));
+    assertFalse(countryRepository.findByProperty("code", "GER").isPresent());
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = NaturalKeyCacheIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CountryRepository.class))
+  static class Config {
+  }
+}
@@ -0,0 +1,20 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.annotation.WarmUp;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Country;
+
+import java.util.List;
+
+/**
+ * Repository of the cached {@link Country} loading the preferred countries into the bean cache on startup.
+ *
+ * @author Xuegui Yuan
+ */
+public interface PreferredCountryRepository extends EbeanRepository<Country, Long> {
+
+  @Query("where code = 'DE'")
+  @WarmUp
+  List<Country> findPreferred();
+}
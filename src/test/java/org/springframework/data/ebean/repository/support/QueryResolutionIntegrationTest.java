@@ -0,0 +1,129 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.repository.query.DeferredRepositoryQuery;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the {@link QueryResolution} modes, each booting a context of its own.
+ *
+ * @author Xuegui Yuan
+ */
+public class QueryResolutionIntegrationTest {
+
+  private static final String RESOLVER_BEAN_NAME = "ebeanDeferredQueryResolver";
+
+  @Test
+  public void eagerResolutionRegistersNoResolver() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(EagerConfig.class)) {
+      assertFalse(context.containsBean(RESOLVER_BEAN_NAME));
+      assertTrue(context.getBean(ValidUserRepository.class).findByEmailAddress("none@163.com").isEmpty());
+    }
+  }
+
+  @Test
+  public void lazyResolutionResolvesOnFirstCall() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(LazyConfig.class)) {
+      assertFalse(context.containsBean(RESOLVER_BEAN_NAME));
+      assertTrue(context.getBean(ValidUserRepository.class).findByEmailAddress("none@163.com").isEmpty());
+      try {
+        context.getBean(InvalidUserRepository.class).findByNickname("none");
+        fail("The invalid query method must fail on its first call");
+      } catch (PropertyReferenceException e) {
+        assertEquals("nickname", e.getPropertyName());
+      }
+    }
+  }
+
+  @Test
+  public void parallelResolutionResolvesOnStartup() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ParallelConfig.class)) {
+      assertTrue(context.containsBean(RESOLVER_BEAN_NAME));
+      List<DeferredRepositoryQuery> queries = context.getBean(DeferredQueryCollector.class).queries;
+      assertFalse(queries.isEmpty());
+      for (DeferredRepositoryQuery query : queries) {
+        assertTrue(query.isResolved());
+      }
+      assertTrue(context.getBean(ValidUserRepository.class).findByEmailAddress("none@163.com").isEmpty());
+    }
+  }
+
+  @Test
+  public void parallelResolutionFailsStartupOnInvalidQuery() {
+    try {
+      new AnnotationConfigApplicationContext(InvalidParallelConfig.class).close();
+      fail("The startup must fail on the invalid query method");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), containsString("Could not resolve 1 repository query methods"));
+      assertTrue(e.getCause() instanceof PropertyReferenceException);
+    }
+  }
+
+  /**
+   * Collects the deferred queries of the repositories before the {@link DeferredQueryResolver} resolves and
+   * forgets them.
+   */
+  static class DeferredQueryCollector implements BeanPostProcessor {
+
+    final List<DeferredRepositoryQuery> queries = new ArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof EbeanRepositoryFactoryBean) {
+        queries.addAll(((EbeanRepositoryFactoryBean<?, ?, ?>) bean).getDeferredQueries());
+      }
+      return bean;
+    }
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryResolutionIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ValidUserRepository.class))
+  static class EagerConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryResolutionIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {ValidUserRepository.class,
+          InvalidUserRepository.class}), queryResolution = QueryResolution.LAZY)
+  static class LazyConfig {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryResolutionIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ValidUserRepository.class),
+      queryResolution = QueryResolution.PARALLEL)
+  static class ParallelConfig {
+    @Bean
+    static DeferredQueryCollector deferredQueryCollector() {
+      return new DeferredQueryCollector();
+    }
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = QueryResolutionIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {ValidUserRepository.class,
+          InvalidUserRepository.class}), queryResolution = QueryResolution.PARALLEL)
+  static class InvalidParallelConfig {
+  }
+}
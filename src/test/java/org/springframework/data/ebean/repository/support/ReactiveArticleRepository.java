@@ -0,0 +1,22 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.ReactiveEbeanRepository;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository of the {@link Article}.
+ *
+ * @author Xuegui Yuan
+ */
+public interface ReactiveArticleRepository extends ReactiveEbeanRepository<Article, Long> {
+
+  @Query("where title like :pattern order by title")
+  Flux<Article> findByTitleLike(@Param("pattern") String pattern);
+
+  @Query("where title = :title")
+  Mono<Article> findOneByTitle(@Param("title") String title);
+}
@@ -0,0 +1,136 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of {@link SimpleReactiveEbeanRepository} and the reactive query methods.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ReactiveEbeanRepositoryIntegrationTest.Config.class)
+public class ReactiveEbeanRepositoryIntegrationTest {
+
+  @Autowired
+  ReactiveArticleRepository repository;
+
+  @Autowired
+  ApplicationContext context;
+
+  @Before
+  public void setUp() {
+    repository.deleteAll()
+        .thenMany(repository.saveAll(Flux.just(new Article("alpha"), new Article("beta"), new Article("gamma"),
+            new Article("alpha2"), new Article("alpha3"))))
+        .blockLast();
+  }
+
+  @Test
+  public void schedulerOnlyRegisteredForReactiveRepositories() {
+    assertTrue(context.containsBean("ebeanReactiveScheduler"));
+    try (AnnotationConfigApplicationContext blocking = new AnnotationConfigApplicationContext(BlockingConfig.class)) {
+      assertFalse(blocking.containsBean("ebeanReactiveScheduler"));
+    }
+  }
+
+  @Test
+  public void crud() {
+    Article saved = repository.save(new Article("delta")).block();
+    assertNotNull(saved.getId());
+    assertEquals("delta", repository.findById(saved.getId()).block().getTitle());
+    assertTrue(repository.existsById(saved.getId()).block());
+    assertEquals(6L, repository.count().block().longValue());
+
+    repository.deleteById(saved.getId()).block();
+    assertNull(repository.findById(saved.getId()).block());
+    assertFalse(repository.existsById(saved.getId()).block());
+    assertEquals(5L, repository.count().block().longValue());
+  }
+
+  @Test
+  public void findAllReadsOnTheBoundedScheduler() {
+    List<String> threads = repository.findAll().map(article -> Thread.currentThread().getName())
+        .collectList().block();
+    assertEquals(5, threads.size());
+    assertTrue(threads.stream().allMatch(name -> name.startsWith("ebean-reactive")));
+  }
+
+  @Test
+  public void findAllSorted() {
+    List<String> titles = repository.findAll(Sort.by(Sort.Direction.DESC, "title")).map(Article::getTitle)
+        .collectList().block();
+    assertEquals(Arrays.asList("gamma", "beta", "alpha3", "alpha2", "alpha"), titles);
+  }
+
+  @Test
+  public void findAllById() {
+    List<Long> ids = repository.findAll().map(Article::getId).take(2).collectList().block();
+    assertEquals(2, repository.findAllById(Flux.fromIterable(ids)).count().block().longValue());
+    assertEquals(0, repository.findAllById(ids.subList(0, 0)).count().block().longValue());
+  }
+
+  @Test
+  public void takeCancelsTheIteration() {
+    for (int i = 0; i < 20; i++) {
+      assertEquals(1, repository.findAll().take(1).count().block().longValue());
+      assertEquals(2, repository.findByTitleLike("alpha%").take(2).count().block().longValue());
+    }
+    assertEquals(5L, repository.count().block().longValue());
+  }
+
+  @Test
+  public void queryMethods() {
+    List<String> titles = repository.findByTitleLike("alpha%").map(Article::getTitle)
+        .collectList().block();
+    assertEquals(Arrays.asList("alpha", "alpha2", "alpha3"), titles);
+
+    assertEquals("beta", repository.findOneByTitle("beta").block().getTitle());
+    assertNull(repository.findOneByTitle("omega").block());
+
+    List<String> threads = repository.findByTitleLike("alpha%")
+        .map(article -> Thread.currentThread().getName()).collect(Collectors.toList()).block();
+    assertTrue(threads.stream().allMatch(name -> name.startsWith("ebean-reactive")));
+  }
+
+  @Test
+  public void deleteAllPublisher() {
+    repository.deleteAll(repository.findByTitleLike("alpha%")).block();
+    assertEquals(2L, repository.count().block().longValue());
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = ReactiveEbeanRepositoryIntegrationTest.class, reactiveThreadCap = 2,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveArticleRepository.class))
+  static class Config {
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = ReactiveEbeanRepositoryIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ArticleRepository.class))
+  static class BlockingConfig {
+  }
+}
@@ -0,0 +1,14 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.annotation.WarmUp;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Country;
+
+/**
+ * Repository of the cached {@link Country} loading all countries into the bean cache on startup.
+ *
+ * @author Xuegui Yuan
+ */
+@WarmUp
+public interface ReferenceCountryRepository extends EbeanRepository<Country, Long> {
+}
@@ -0,0 +1,79 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the offset and keyset slices of {@link SimpleEbeanRepository}.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = SliceIntegrationTest.Config.class)
+public class SliceIntegrationTest {
+
+  @Autowired
+  SlicedUserRepository userRepository;
+
+  User user;
+
+  @Before
+  public void setUp() {
+    userRepository.deleteAll();
+    user = userRepository.save(new User("Xuegui", "Yuan", "yuanxuegui@163.com"));
+  }
+
+  @Test
+  public void findSlice() {
+    User u = new User("slice", "slice", "slice@163.com");
+    userRepository.save(u);
+
+    Slice<User> first = userRepository.findSlice(PageRequest.of(0, 1, Sort.by("id")));
+    assertEquals(1, first.getContent().size());
+    assertTrue(first.hasNext());
+    assertEquals(user, first.getContent().get(0));
+
+    Slice<User> second = userRepository.findSlice(first.nextPageable());
+    assertEquals(1, second.getContent().size());
+    assertFalse(second.hasNext());
+    assertEquals(u, second.getContent().get(0));
+  }
+
+  @Test
+  public void findSliceAfter() {
+    User u = new User("slice", "slice", "slice@163.com");
+    userRepository.save(u);
+
+    Slice<User> first = userRepository.findSliceAfter(null, 1);
+    assertTrue(first.hasNext());
+    assertEquals(user, first.getContent().get(0));
+    assertFalse(first.nextPageable().isPaged());
+
+    Slice<User> second = userRepository.findSliceAfter(first.getContent().get(0).getId(), 1);
+    assertFalse(second.hasNext());
+    assertEquals(u, second.getContent().get(0));
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = SliceIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SlicedUserRepository.class))
+  static class Config {
+  }
+}
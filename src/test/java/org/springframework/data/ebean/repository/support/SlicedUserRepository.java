@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+
+/**
+ * Repository of the {@link User}s read in slices.
+ *
+ * @author Xuegui Yuan
+ */
+public interface SlicedUserRepository extends EbeanRepository<User, Long> {
+}
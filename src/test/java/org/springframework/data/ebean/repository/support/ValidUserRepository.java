@@ -0,0 +1,16 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.User;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository whose query methods are all valid.
+ *
+ * @author Xuegui Yuan
+ */
+public interface ValidUserRepository extends EbeanRepository<User, Long> {
+  List<User> findByEmailAddress(@Param("emailAddress") String emailAddress);
+}
@@ -0,0 +1,70 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.ebean.repository.config.EnableEbeanRepositories;
+import org.springframework.data.ebean.sample.config.StandaloneEbeanConfig;
+import org.springframework.data.ebean.sample.domain.Article;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests of the versioned {@link SimpleEbeanRepository#updateById(Object, Number, java.util.Map)}.
+ *
+ * @author Xuegui Yuan
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = VersionedUpdateIntegrationTest.Config.class)
+public class VersionedUpdateIntegrationTest {
+
+  @Autowired
+  ArticleRepository articleRepository;
+
+  Article article;
+
+  @Before
+  public void setUp() {
+    articleRepository.deleteAll();
+    article = articleRepository.save(new Article("draft"));
+  }
+
+  @Test
+  public void updateByIdIncrementsVersion() {
+    long version = article.getVersion();
+    articleRepository.updateById(article.getId(), version, Collections.singletonMap("title", "published"));
+
+    Article updated = articleRepository.findById(article.getId()).get();
+    assertEquals("published", updated.getTitle());
+    assertEquals(version + 1, updated.getVersion());
+  }
+
+  @Test
+  public void updateByIdWithStaleVersionFails() {
+    long version = article.getVersion();
+    articleRepository.updateById(article.getId(), version, Collections.singletonMap("title", "published"));
+    try {
+      articleRepository.updateById(article.getId(), version, Collections.singletonMap("title", "stale"));
+      fail("The update with the stale version must fail");
+    } catch (OptimisticLockingFailureException e) {
+      assertEquals("published", articleRepository.findById(article.getId()).get().getTitle());
+    }
+  }
+
+  @Configuration
+  @Import(StandaloneEbeanConfig.class)
+  @EnableEbeanRepositories(basePackageClasses = VersionedUpdateIntegrationTest.class,
+      includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ArticleRepository.class))
+  static class Config {
+  }
+}
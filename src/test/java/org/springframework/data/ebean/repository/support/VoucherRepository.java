@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.repository.support;
+
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.ebean.sample.domain.Voucher;
+
+/**
+ * Repository of the {@link Voucher}s with sequence ids.
+ *
+ * @author Xuegui Yuan
+ */
+public interface VoucherRepository extends EbeanRepository<Voucher, Long> {
+}
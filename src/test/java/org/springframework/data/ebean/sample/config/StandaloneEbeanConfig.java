@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.sample.config;
+
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.spring.txn.SpringJdbcTransactionManager;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.dbmigration.DdlGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+
+/**
+ * Infrastructure of the test contexts booted on their own: an {@link EbeanServer} creating the tables of the sample
+ * domain in a private in-memory database, and its transaction manager. Test configurations import it and declare
+ * their repositories with {@link org.springframework.data.ebean.repository.config.EnableEbeanRepositories}.
+ *
+ * @author Xuegui Yuan
+ */
+@Configuration
+@EnableTransactionManagement
+public class StandaloneEbeanConfig {
+  @Bean
+  public PlatformTransactionManager transactionManager(DataSource dataSource) {
+    return new DataSourceTransactionManager(dataSource);
+  }
+
+  @Bean
+  public DataSource dataSource() {
+    return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+  }
+
+  @Bean
+  public EbeanServer ebeanServer(DataSource dataSource) {
+    ServerConfig config = new ServerConfig();
+    config.setName("standalone");
+    config.setDataSource(dataSource);
+    config.setExternalTransactionManager(new SpringJdbcTransactionManager());
+
+    config.loadFromProperties();
+    config.setDdlGenerate(false);
+    config.setDdlRun(false);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setAutoCommitMode(false);
+    config.setExpressionNativeIlike(true);
+    config.setCurrentUserProvider(() -> "test");
+
+    EbeanServer ebeanServer = EbeanServerFactory.create(config);
+    // run the create-all script without writing it and the drop-all script to the working directory
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    new DdlGenerator((SpiEbeanServer) ebeanServer, config) {
+      @Override
+      protected void writeFile(String fileName, String fileContent) {
+      }
+    }.execute(true);
+    return ebeanServer;
+  }
+}
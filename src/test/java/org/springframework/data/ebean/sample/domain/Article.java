@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.sample.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+/**
+ * Sample domain class with an optimistic locking version.
+ *
+ * @author Xuegui Yuan
+ */
+@Entity
+@Getter
+@Setter
+public class Article {
+
+  @Id
+  @GeneratedValue
+  private Long id;
+
+  private String title;
+
+  @Version
+  private long version;
+
+  /**
+   * Creates a new empty instance of {@code Article}.
+   */
+  public Article() {
+  }
+
+  /**
+   * Creates a new instance of {@code Article} with the given title.
+   *
+   * @param title
+   */
+  public Article(String title) {
+    this.title = title;
+  }
+}
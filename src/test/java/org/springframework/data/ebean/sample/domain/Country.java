@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.ebean.sample.domain;
+
+import io.ebean.annotation.Cache;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+/**
+ * Sample reference data class held in the bean cache and looked up by its code through the natural key cache.
+ *
+ * @author Xuegui Yuan
+ */
+@Entity
+@Cache(naturalKey = "code")
+@Getter
+@Setter
+public class Country {
+
+  @Id
+  @GeneratedValue
+  private Long id;
+
+  @Column(unique = true)
+  private String code;
+
+  private String name;
+
+  /**
+   * Creates a new empty instance of {@code Country}.
+   */
+  public Country() {
+  }
+
+  /**
+   * Creates a new instance of {@code Country} with the given code and name.
+   *
+   * @param code
+   * @param name
+   */
+  public Country(String code, String name) {
+    this.code = code;
+    this.name = name;
+  }
+}
@@ -0,0 +1,12 @@
+package org.springframework.data.ebean.sample.domain;
+
+/**
+ * Closed interface projection of {@link User}.
+ *
+ * @author Xuegui Yuan
+ */
+public interface EmailAddressOnly {
+  String getEmailAddress();
+
+  int getAge();
+}
@@ -0,0 +1,37 @@
+package org.springframework.data.ebean.sample.domain;
+
+import io.ebean.PersistenceContextScope;
+import org.springframework.data.ebean.annotation.ConcurrencyLimit;
+import org.springframework.data.ebean.annotation.PersistenceContextScoped;
+import org.springframework.data.ebean.annotation.QueryHints;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository declaring query methods with concurrency limits, hints and persistence context scopes.
+ *
+ * @author Xuegui Yuan
+ */
+public interface TunedUserRepository extends EbeanRepository<User, Long> {
+
+  @ConcurrencyLimit(1)
+  List<User> findLimitedByFullNameLastName(@Param("lastName") String lastName);
+
+  @ConcurrencyLimit(1)
+  Stream<User> streamLimitedByFullNameLastName(@Param("lastName") String lastName);
+
+  @QueryHints(timeout = 5)
+  List<User> findHintedByFullNameLastName(@Param("lastName") String lastName);
+
+  @QueryHints(fetchSize = 2)
+  Stream<User> streamByFullNameLastName(@Param("lastName") String lastName);
+
+  @PersistenceContextScoped(PersistenceContextScope.QUERY)
+  List<User> findScopedByFullNameLastName(@Param("lastName") String lastName);
+
+  @QueryHints(readOnly = true)
+  List<User> findReadOnlyByFullNameLastName(@Param("lastName") String lastName);
+}
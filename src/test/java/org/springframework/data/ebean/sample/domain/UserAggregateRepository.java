@@ -0,0 +1,44 @@
+package org.springframework.data.ebean.sample.domain;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository declaring query methods returning scalars, primitive arrays and aggregates of {@link User}s.
+ *
+ * @author Xuegui Yuan
+ */
+public interface UserAggregateRepository extends EbeanRepository<User, Long> {
+
+  @Query(nativeQuery = true, value = "select id from user where age = :age")
+  long[] findIdsByAgeNative(@Param("age") int age);
+
+  @Query(nativeQuery = true, value = "select count(*) from user where age = :age")
+  long countByAgeNative(@Param("age") int age);
+
+  @Query(nativeQuery = true, value = "select email_address from user where age = :age")
+  Set<String> findEmailAddressesByAgeNative(@Param("age") int age);
+
+  @Query("select (emailAddress) where fullName.lastName = :lastName")
+  List<String> findEmailAddressesByLastNameOql(@Param("lastName") String lastName);
+
+  @Query("select (age) where fullName.lastName = :lastName")
+  int[] findAgesByLastNameOql(@Param("lastName") String lastName);
+
+  @Query(nativeQuery = true, value = "select age from user where last_name = :lastName")
+  double[] findAgesByLastNameNative(@Param("lastName") String lastName);
+
+  long countByFullNameLastName(@Param("lastName") String lastName);
+
+  Integer maxAgeByFullNameLastName(@Param("lastName") String lastName);
+
+  long sumAgeByFullNameLastName(@Param("lastName") String lastName);
+
+  double avgAgeByFullNameLastName(@Param("lastName") String lastName);
+
+  int minAgeByFullNameLastName(@Param("lastName") String lastName);
+}
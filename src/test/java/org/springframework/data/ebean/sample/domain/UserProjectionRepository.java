@@ -0,0 +1,31 @@
+package org.springframework.data.ebean.sample.domain;
+
+import org.springframework.data.ebean.annotation.Query;
+import org.springframework.data.ebean.repository.EbeanRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository declaring query methods returning projections of {@link User}s and other entities.
+ *
+ * @author Xuegui Yuan
+ */
+public interface UserProjectionRepository extends EbeanRepository<User, Long> {
+
+  List<EmailAddressOnly> findByFullNameLastName(@Param("lastName") String lastName);
+
+  List<UserSummary> findSummaryByAge(@Param("age") int age);
+
+  @Query("where emailAddress = :emailAddress")
+  <T> T findByEmailAddressOql(@Param("emailAddress") String emailAddress, Class<T> type);
+
+  @Query(nativeQuery = true, value = "select first_name, email_address, age from user where last_name = :lastName")
+  List<UserSummary> findSummariesByLastNameNative(@Param("lastName") String lastName);
+
+  @Query("where name = :name")
+  List<Role> findRolesByNameOql(@Param("name") String name);
+
+  @Query(nativeQuery = true, value = "select * from role where name = :name")
+  List<Role> findRolesByNameNative(@Param("name") String name);
+}
@@ -0,0 +1,17 @@
+package org.springframework.data.ebean.sample.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO projection of {@link User}.
+ *
+ * @author Xuegui Yuan
+ */
+@Getter
+@Setter
+public class UserSummary {
+  private String firstName;
+  private String emailAddress;
+  private int age;
+}